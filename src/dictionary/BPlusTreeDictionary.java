@@ -0,0 +1,430 @@
+package dictionary;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of the SortedDictionary interface as B+ tree.
+ * <p>
+ * Inner nodes hold up to {@value #MAX_KEYS} separator keys in a sorted array, so a search
+ * touches only a few (wide) nodes instead of one node per comparison as in an AVL tree.
+ * All entries are stored in the leaves, which are doubly linked for ordered iteration.
+ * Nodes that drop below half of their capacity after a remove borrow from or are merged
+ * with a sibling, so the tree stays balanced.
+ * <p>
+ * The entries are ordered using their natural ordering on the keys,
+ * or by a Comparator provided at creation time, depending on which constructor is used.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class BPlusTreeDictionary<K, V> implements SortedDictionary<K, V> {
+    private static final int MAX_KEYS = 64; // Knotenbreite
+    private static final int MIN_KEYS = MAX_KEYS / 2;
+
+    // Platz für einen Schlüssel mehr als erlaubt: erst einfügen, dann teilen
+    private static class Node {
+        final Object[] keys = new Object[MAX_KEYS + 1]; // nicht private, damit über Leaf/Inner zugreifbar
+        int n;
+    }
+
+    // children[i] enthält die Schlüssel < keys[i], children[i+1] die Schlüssel >= keys[i]
+    private static class Inner extends Node {
+        private final Node[] children = new Node[MAX_KEYS + 2];
+    }
+
+    private static class Leaf extends Node {
+        private final Object[] values = new Object[MAX_KEYS + 1];
+        private Leaf next;
+        private Leaf prev;
+    }
+
+    private final Comparator<? super K> cmp;
+    private Node root = new Leaf();
+    private final Leaf head = (Leaf) root; // das erste Blatt bleibt immer das erste
+    private int height = 0; // Anzahl der inneren Ebenen
+    private int size = 0;
+
+    public BPlusTreeDictionary() {
+        this(null);
+    }
+
+    /**
+     * @param c comparator for the keys, or null for natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public BPlusTreeDictionary(Comparator<? super K> c) {
+        if (c == null)
+            cmp = (x, y) -> ((Comparable<? super K>) x).compareTo(y);
+        else
+            cmp = c;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object x, K key) {
+        return cmp.compare((K) x, key);
+    }
+
+    // Index des ersten Schlüssels > key, d.h. des Kindes, das key enthalten kann
+    private int childIndex(Inner p, K key) {
+        int li = 0;
+        int re = p.n;
+        while (li < re) {
+            int m = (li + re) >>> 1;
+            if (compare(p.keys[m], key) <= 0)
+                li = m + 1;
+            else
+                re = m;
+        }
+        return li;
+    }
+
+    // Index des ersten Schlüssels >= key im Blatt (n, falls es keinen gibt)
+    private int lowerBound(Leaf p, K key) {
+        int li = 0;
+        int re = p.n;
+        while (li < re) {
+            int m = (li + re) >>> 1;
+            if (compare(p.keys[m], key) < 0)
+                li = m + 1;
+            else
+                re = m;
+        }
+        return li;
+    }
+
+    private Leaf findLeaf(K key) {
+        Node p = root;
+        for (int d = 0; d < height; d++)
+            p = ((Inner) p).children[childIndex((Inner) p, key)];
+        return (Leaf) p;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V search(K key) {
+        Leaf p = findLeaf(key);
+        int i = lowerBound(p, key);
+        return (i < p.n && compare(p.keys[i], key) == 0) ? (V) p.values[i] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V insert(K key, V value) {
+        // Abstieg mit Pfad, damit Teilungen nach oben weitergegeben werden können
+        Inner[] path = new Inner[height];
+        int[] idx = new int[height];
+        Node p = root;
+        for (int d = 0; d < height; d++) {
+            path[d] = (Inner) p;
+            idx[d] = childIndex(path[d], key);
+            p = path[d].children[idx[d]];
+        }
+        Leaf leaf = (Leaf) p;
+        int i = lowerBound(leaf, key);
+        if (i < leaf.n && compare(leaf.keys[i], key) == 0) {
+            V old = (V) leaf.values[i];
+            leaf.values[i] = value;
+            return old;
+        }
+        System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.n - i);
+        System.arraycopy(leaf.values, i, leaf.values, i + 1, leaf.n - i);
+        leaf.keys[i] = key;
+        leaf.values[i] = value;
+        leaf.n++;
+        size++;
+        if (leaf.n <= MAX_KEYS)
+            return null;
+
+        // Blatt teilen: obere Hälfte in ein neues rechtes Blatt
+        Leaf right = new Leaf();
+        int half = leaf.n / 2;
+        right.n = leaf.n - half;
+        System.arraycopy(leaf.keys, half, right.keys, 0, right.n);
+        System.arraycopy(leaf.values, half, right.values, 0, right.n);
+        clear(leaf.keys, half, leaf.n);
+        clear(leaf.values, half, leaf.n);
+        leaf.n = half;
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null)
+            leaf.next.prev = right;
+        leaf.next = right;
+
+        Object sep = right.keys[0];
+        Node newChild = right;
+        for (int d = height - 1; d >= 0; d--) {
+            Inner q = path[d];
+            int j = idx[d];
+            System.arraycopy(q.keys, j, q.keys, j + 1, q.n - j);
+            System.arraycopy(q.children, j + 1, q.children, j + 2, q.n - j);
+            q.keys[j] = sep;
+            q.children[j + 1] = newChild;
+            q.n++;
+            if (q.n <= MAX_KEYS)
+                return null;
+            // innerer Knoten teilen: mittlerer Schlüssel wandert nach oben
+            Inner r = new Inner();
+            int mid = q.n / 2;
+            sep = q.keys[mid];
+            r.n = q.n - mid - 1;
+            System.arraycopy(q.keys, mid + 1, r.keys, 0, r.n);
+            System.arraycopy(q.children, mid + 1, r.children, 0, r.n + 1);
+            clear(q.keys, mid, q.n);
+            clear(q.children, mid + 1, q.n + 1);
+            q.n = mid;
+            newChild = r;
+        }
+        // Wurzel wurde geteilt: neue Wurzel
+        Inner newRoot = new Inner();
+        newRoot.keys[0] = sep;
+        newRoot.children[0] = root;
+        newRoot.children[1] = newChild;
+        newRoot.n = 1;
+        root = newRoot;
+        height++;
+        return null;
+    }
+
+    private static void clear(Object[] a, int from, int to) {
+        for (int i = from; i < to; i++)
+            a[i] = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        Inner[] path = new Inner[height];
+        int[] idx = new int[height];
+        Node p = root;
+        for (int d = 0; d < height; d++) {
+            path[d] = (Inner) p;
+            idx[d] = childIndex(path[d], key);
+            p = path[d].children[idx[d]];
+        }
+        Leaf leaf = (Leaf) p;
+        int i = lowerBound(leaf, key);
+        if (i == leaf.n || compare(leaf.keys[i], key) != 0)
+            return null;
+        V old = (V) leaf.values[i];
+        System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.n - i - 1);
+        System.arraycopy(leaf.values, i + 1, leaf.values, i, leaf.n - i - 1);
+        leaf.n--;
+        leaf.keys[leaf.n] = null;
+        leaf.values[leaf.n] = null;
+        size--;
+
+        Node child = leaf;
+        for (int d = height - 1; d >= 0 && child.n < MIN_KEYS; d--) {
+            if (child instanceof Leaf)
+                fixLeaf(path[d], idx[d]);
+            else
+                fixInner(path[d], idx[d]);
+            child = path[d];
+        }
+        if (height > 0 && root.n == 0) {
+            // Wurzel hat nur noch ein Kind
+            root = ((Inner) root).children[0];
+            height--;
+        }
+        return old;
+    }
+
+    // Unterlauf im Blatt parent.children[j]: vom Nachbarn leihen oder verschmelzen
+    private void fixLeaf(Inner parent, int j) {
+        Leaf p = (Leaf) parent.children[j];
+        Leaf left = (j > 0) ? (Leaf) parent.children[j - 1] : null;
+        Leaf right = (j < parent.n) ? (Leaf) parent.children[j + 1] : null;
+        if (left != null && left.n > MIN_KEYS) {
+            System.arraycopy(p.keys, 0, p.keys, 1, p.n);
+            System.arraycopy(p.values, 0, p.values, 1, p.n);
+            left.n--;
+            p.keys[0] = left.keys[left.n];
+            p.values[0] = left.values[left.n];
+            left.keys[left.n] = null;
+            left.values[left.n] = null;
+            p.n++;
+            parent.keys[j - 1] = p.keys[0];
+        } else if (right != null && right.n > MIN_KEYS) {
+            p.keys[p.n] = right.keys[0];
+            p.values[p.n] = right.values[0];
+            p.n++;
+            right.n--;
+            System.arraycopy(right.keys, 1, right.keys, 0, right.n);
+            System.arraycopy(right.values, 1, right.values, 0, right.n);
+            right.keys[right.n] = null;
+            right.values[right.n] = null;
+            parent.keys[j] = right.keys[0];
+        } else if (left != null) {
+            mergeLeaves(parent, j - 1);
+        } else if (right != null) {
+            mergeLeaves(parent, j);
+        }
+    }
+
+    // hängt parent.children[j + 1] an parent.children[j] an und entfernt es
+    private void mergeLeaves(Inner parent, int j) {
+        Leaf l = (Leaf) parent.children[j];
+        Leaf r = (Leaf) parent.children[j + 1];
+        System.arraycopy(r.keys, 0, l.keys, l.n, r.n);
+        System.arraycopy(r.values, 0, l.values, l.n, r.n);
+        l.n += r.n;
+        l.next = r.next;
+        if (r.next != null)
+            r.next.prev = l;
+        removeFromInner(parent, j);
+    }
+
+    // entfernt keys[j] und children[j + 1]
+    private static void removeFromInner(Inner p, int j) {
+        System.arraycopy(p.keys, j + 1, p.keys, j, p.n - j - 1);
+        System.arraycopy(p.children, j + 2, p.children, j + 1, p.n - j - 1);
+        p.n--;
+        p.keys[p.n] = null;
+        p.children[p.n + 1] = null;
+    }
+
+    // Unterlauf im inneren Knoten parent.children[j]: Rotation über parent oder verschmelzen
+    private void fixInner(Inner parent, int j) {
+        Inner p = (Inner) parent.children[j];
+        Inner left = (j > 0) ? (Inner) parent.children[j - 1] : null;
+        Inner right = (j < parent.n) ? (Inner) parent.children[j + 1] : null;
+        if (left != null && left.n > MIN_KEYS) {
+            System.arraycopy(p.keys, 0, p.keys, 1, p.n);
+            System.arraycopy(p.children, 0, p.children, 1, p.n + 1);
+            p.keys[0] = parent.keys[j - 1];
+            p.children[0] = left.children[left.n];
+            p.n++;
+            parent.keys[j - 1] = left.keys[left.n - 1];
+            left.keys[left.n - 1] = null;
+            left.children[left.n] = null;
+            left.n--;
+        } else if (right != null && right.n > MIN_KEYS) {
+            p.keys[p.n] = parent.keys[j];
+            p.children[p.n + 1] = right.children[0];
+            p.n++;
+            parent.keys[j] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.n - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.n);
+            right.n--;
+            right.keys[right.n] = null;
+            right.children[right.n + 1] = null;
+        } else if (left != null) {
+            mergeInner(parent, j - 1);
+        } else if (right != null) {
+            mergeInner(parent, j);
+        }
+    }
+
+    // parent.children[j + 1] samt Trennschlüssel keys[j] an parent.children[j] anhängen
+    private void mergeInner(Inner parent, int j) {
+        Inner l = (Inner) parent.children[j];
+        Inner r = (Inner) parent.children[j + 1];
+        l.keys[l.n] = parent.keys[j];
+        System.arraycopy(r.keys, 0, l.keys, l.n + 1, r.n);
+        System.arraycopy(r.children, 0, l.children, l.n + 1, r.n + 1);
+        l.n += r.n + 1;
+        removeFromInner(parent, j);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> toEntry(Leaf p, int i) {
+        return new Entry<>((K) p.keys[i], (V) p.values[i]);
+    }
+
+    @Override
+    public Entry<K, V> first() {
+        return (size > 0) ? toEntry(head, 0) : null;
+    }
+
+    @Override
+    public Entry<K, V> last() {
+        Node p = root;
+        for (int d = 0; d < height; d++)
+            p = ((Inner) p).children[p.n];
+        return (size > 0) ? toEntry((Leaf) p, p.n - 1) : null;
+    }
+
+    @Override
+    public Entry<K, V> floor(K key) {
+        Leaf p = findLeaf(key);
+        int i = lowerBound(p, key);
+        if (i < p.n && compare(p.keys[i], key) == 0)
+            return toEntry(p, i);
+        if (i > 0)
+            return toEntry(p, i - 1);
+        // key ist kleiner als alle Schlüssel dieses Blatts: letzter Eintrag davor
+        for (p = p.prev; p != null; p = p.prev) {
+            if (p.n > 0)
+                return toEntry(p, p.n - 1);
+        }
+        return null;
+    }
+
+    @Override
+    public Entry<K, V> ceiling(K key) {
+        Leaf p = findLeaf(key);
+        int i = lowerBound(p, key);
+        while (p != null && i == p.n) {
+            p = p.next;
+            i = 0;
+        }
+        return (p != null) ? toEntry(p, i) : null;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> range(K from, K to) {
+        if (from == null)
+            return new BPlusTreeIterator(head, 0, to);
+        Leaf p = findLeaf(from);
+        return new BPlusTreeIterator(p, lowerBound(p, from), to);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new BPlusTreeIterator(head, 0, null);
+    }
+
+    // läuft über die verketteten Blätter bis ausschließlich to (null = bis zum Ende)
+    private class BPlusTreeIterator implements Iterator<Entry<K, V>> {
+        private Leaf p;
+        private int i;
+        private final K to;
+
+        private BPlusTreeIterator(Leaf start, int i, K to) {
+            this.p = start;
+            this.i = i;
+            this.to = to;
+            skipToValid();
+        }
+
+        private void skipToValid() {
+            while (p != null && i == p.n) {
+                p = p.next;
+                i = 0;
+            }
+            if (p != null && to != null && compare(p.keys[i], to) >= 0)
+                p = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return p != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (p == null)
+                throw new NoSuchElementException();
+            Entry<K, V> e = toEntry(p, i++);
+            skipToValid();
+            return e;
+        }
+    }
+}
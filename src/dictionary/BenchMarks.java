@@ -3,15 +3,40 @@ package dictionary;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.Scanner;
 
 public class BenchMarks {
 
     public static void main(String[] args) throws FileNotFoundException {
         sortedArrayTest();
+        sortedArrayBulkTest();
         System.out.println("+++++++++++++++++++++++++++++++++++++");
         hashTest();
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        hashUpdateTest();
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        hashLatencyTest(false);
+        hashLatencyTest(true);
+        hashCapacityTest();
         //binaryTest();
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        binaryBulkTest();
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        iterationTest();
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        batchSearchTest(new HashDictionary<>(3), "HashDictionary");
+        batchSearchTest(new SortedArrayDictionary<>(), "SortedArrayDictionary");
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        treeTest(new BinaryTreeDictionary<>(), "BinaryTreeDictionary");
+        treeTest(new BPlusTreeDictionary<>(), "BPlusTreeDictionary");
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        mixedTest(new SortedArrayDictionary<>(), "SortedArrayDictionary");
+        mixedTest(new BlockedSortedArrayDictionary<>(), "BlockedSortedArrayDictionary");
+        System.out.println("+++++++++++++++++++++++++++++++++++++");
+        scalingTest(new BinaryTreeDictionary<>(), true, "BinaryTreeDictionary (synchronized)");
+        scalingTest(new ConcurrentSkipListDictionary<>(), false, "ConcurrentSkipListDictionary");
     }
 
     private static void sortedArrayTest() throws FileNotFoundException {
@@ -132,6 +157,53 @@ public class BenchMarks {
         System.out.println("SortedArrayDictionary: Nicht erfolgreiches Suchen fuer 16000 Eintraege = " + (endTime - startTime) + "ms");
     }
 
+    // Aufbau per bulkLoad statt einzelner inserts
+    private static void sortedArrayBulkTest() throws FileNotFoundException {
+        for (int n : new int[]{8000, 16000}) {
+            Scanner sc = new Scanner(new File("src/dictionary/dtengl.txt"));
+            ArrayList<Dictionary.Entry<String, String>> entries = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (sc.hasNextLine()) {
+                    String[] currentArgs = sc.nextLine().split(" ");
+                    entries.add(new Dictionary.Entry<>(currentArgs[0], currentArgs[1]));
+                }
+            }
+            long startTime = System.currentTimeMillis();
+            SortedArrayDictionary<String, String> dict = new SortedArrayDictionary<>();
+            dict.bulkLoad(entries);
+            long endTime = System.currentTimeMillis();
+            System.out.println("SortedArrayDictionary: Aufbau mit bulkLoad fuer " + n + " Eintraege = " + (endTime - startTime) + "ms");
+        }
+    }
+
+    // Aufbau eines BinaryTreeDictionary: einzelne inserts gegen fromSorted (Eingabe vorsortiert)
+    private static void binaryBulkTest() throws FileNotFoundException {
+        Scanner sc = new Scanner(new File("src/dictionary/dtengl.txt"));
+        ArrayList<Dictionary.Entry<String, String>> entries = new ArrayList<>();
+        while (sc.hasNextLine()) {
+            String[] currentArgs = sc.nextLine().split(" ");
+            entries.add(new Dictionary.Entry<>(currentArgs[0], currentArgs[1]));
+        }
+        entries.sort((x, y) -> x.getKey().compareTo(y.getKey()));
+
+        long startTime = System.nanoTime();
+        BinaryTreeDictionary<String, String> dict1 = new BinaryTreeDictionary<>();
+        for (var e : entries)
+            dict1.insert(e.getKey(), e.getValue());
+        long endTime = System.nanoTime();
+        System.out.println("BinaryTreeDictionary: Aufbau mit insert fuer " + entries.size() + " Eintraege = " + (endTime - startTime) / 1000 + "us");
+
+        startTime = System.nanoTime();
+        BinaryTreeDictionary<String, String> dict2 = BinaryTreeDictionary.fromSorted(entries);
+        endTime = System.nanoTime();
+        System.out.println("BinaryTreeDictionary: Aufbau mit fromSorted fuer " + entries.size() + " Eintraege = " + (endTime - startTime) / 1000 + "us");
+
+        startTime = System.nanoTime();
+        dict2.merge(dict1);
+        endTime = System.nanoTime();
+        System.out.println("BinaryTreeDictionary: merge von 2 x " + entries.size() + " Eintraegen = " + (endTime - startTime) / 1000 + "us");
+    }
+
     private static void hashTest() throws FileNotFoundException {
         Scanner scanner = new Scanner(new File("src/dictionary/dtengl.txt"));
         long startTime = System.currentTimeMillis();
@@ -250,6 +322,281 @@ public class BenchMarks {
         System.out.println("HashDictionary: Nicht erfolgreiches Suchen fuer 16000 Eintraege = " + (endTime - startTime) + "ms");
     }
 
+    // Einfügen, Überschreiben und Löschen aller Einträge aus dtengl.txt;
+    // misst den insert/remove-Pfad des HashDictionary (Mittelwert über 10 Läufe)
+    private static void hashUpdateTest() throws FileNotFoundException {
+        Scanner scanner = new Scanner(new File("src/dictionary/dtengl.txt"));
+        ArrayList<String[]> lines = new ArrayList<>();
+        while (scanner.hasNextLine())
+            lines.add(scanner.nextLine().split(" "));
+
+        final int runs = 10;
+        long insertTime = 0, updateTime = 0, removeTime = 0;
+        for (int r = 0; r < runs; r++) {
+            Dictionary<String, String> dict = new HashDictionary<>(3);
+            long startTime = System.nanoTime();
+            for (String[] l : lines)
+                dict.insert(l[0], l[1]);
+            long t1 = System.nanoTime();
+            for (String[] l : lines)
+                dict.insert(l[0], l[0]);
+            long t2 = System.nanoTime();
+            for (String[] l : lines)
+                dict.remove(l[0]);
+            long endTime = System.nanoTime();
+            insertTime += t1 - startTime;
+            updateTime += t2 - t1;
+            removeTime += endTime - t2;
+        }
+        System.out.println("HashDictionary: Einfuegen fuer " + lines.size() + " Eintraege = " + insertTime / runs / 1000 + "us");
+        System.out.println("HashDictionary: Ueberschreiben fuer " + lines.size() + " Eintraege = " + updateTime / runs / 1000 + "us");
+        System.out.println("HashDictionary: Loeschen fuer " + lines.size() + " Eintraege = " + removeTime / runs / 1000 + "us");
+    }
+
+    // Latenz einzelner Einfügeoperationen beim Wachsen auf 2 Mio. Eintraege,
+    // mit vollständigem bzw. inkrementellem Rehashing
+    private static void hashLatencyTest(boolean incremental) {
+        final int n = 2_000_000;
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = "key" + i;
+        long[] latencies = new long[n];
+        Dictionary<String, String> dict = new HashDictionary<>(3, incremental);
+        for (int i = 0; i < n; i++) {
+            long startTime = System.nanoTime();
+            dict.insert(keys[i], keys[i]);
+            latencies[i] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(latencies);
+        String mode = incremental ? "inkrementell" : "vollstaendig";
+        System.out.println("HashDictionary (" + mode + "): Einfuegen p50 = " + latencies[n / 2] + "ns, p99 = "
+                + latencies[(int) (n * 0.99)] + "ns, p99.99 = " + latencies[(int) (n * 0.9999)] + "ns, max = "
+                + latencies[n - 1] / 1000 + "us");
+    }
+
+    // Einfügen mit wachsender bzw. per expectedSize geplanter Tabelle, danach trimToSize
+    private static void hashCapacityTest() {
+        final int n = 1_000_000;
+        for (int r = 0; r < 2; r++) { // erster Lauf zum Aufwärmen
+            HashDictionary<Integer, Integer> grown = new HashDictionary<>(3);
+            long startTime = System.nanoTime();
+            for (int i = 0; i < n; i++)
+                grown.insert(i, i);
+            long grownTime = System.nanoTime() - startTime;
+
+            HashDictionary<Integer, Integer> planned = HashDictionary.<Integer, Integer>builder()
+                    .expectedSize(n).build();
+            startTime = System.nanoTime();
+            for (int i = 0; i < n; i++)
+                planned.insert(i, i);
+            long plannedTime = System.nanoTime() - startTime;
+
+            for (int i = 0; i < n; i++)
+                if (i % 100 != 0)
+                    planned.remove(i);
+            int before = planned.capacity();
+            planned.trimToSize();
+            if (r == 1)
+                System.out.println("HashDictionary: Einfuegen fuer " + n + " Eintraege = " + grownTime / 1_000_000
+                        + "ms wachsend, " + plannedTime / 1_000_000 + "ms mit expectedSize; trimToSize nach Loeschen: "
+                        + before + " -> " + planned.capacity() + " Buckets");
+        }
+    }
+
+    // vollständige Iteration: dicht gefülltes HashDictionary, dünn besetzte Tabelle
+    // (viele leere Buckets) und SortedArrayDictionary (Mittelwert über 10 Läufe)
+    private static void iterationTest() {
+        final int n = 1_000_000;
+        Dictionary<Integer, Integer> hash = new HashDictionary<>(3);
+        Dictionary<Integer, Integer> sparse = new HashDictionary<>(8388593);
+        SortedArrayDictionary<Integer, Integer> sorted = new SortedArrayDictionary<>();
+        ArrayList<Dictionary.Entry<Integer, Integer>> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            hash.insert(i, i);
+            entries.add(new Dictionary.Entry<>(i, i));
+        }
+        for (int i = 0; i < 10_000; i++)
+            sparse.insert(i * 7919, i);
+        sorted.bulkLoad(entries);
+
+        iterate("HashDictionary", hash);
+        iterate("HashDictionary (duenn besetzt)", sparse);
+        iterate("SortedArrayDictionary", sorted);
+    }
+
+    private static void iterate(String name, Dictionary<Integer, Integer> dict) {
+        final int runs = 10;
+        long sum = 0;
+        long time = 0;
+        for (int r = 0; r < runs + 3; r++) { // 3 Aufwärmläufe
+            long startTime = System.nanoTime();
+            for (Dictionary.Entry<Integer, Integer> e : dict)
+                sum += e.getValue();
+            if (r >= 3)
+                time += System.nanoTime() - startTime;
+        }
+        System.out.println(name + ": Iterieren ueber " + dict.size() + " Eintraege = " + time / runs / 1000
+                + "us (" + time / runs / dict.size() + "ns/Eintrag, Summe " + sum / (runs + 3) + ")");
+    }
+
+    // 1000 Suchanfragen mit je 500 zufälligen Schlüsseln in 1 Mio. Einträgen:
+    // einzelne search-Aufrufe gegenüber searchAll
+    private static void batchSearchTest(Dictionary<Integer, Integer> dict, String name) {
+        final int n = 1_000_000;
+        final int batch = 500;
+        final int requests = 1000;
+        ArrayList<Dictionary.Entry<Integer, Integer>> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            entries.add(new Dictionary.Entry<>(i, i));
+        dict.insertAll(entries);
+        Random random = new Random(42);
+        Integer[][] keys = new Integer[requests][batch];
+        for (Integer[] k : keys)
+            for (int i = 0; i < batch; i++)
+                k[i] = random.nextInt(2 * n);
+        Integer[] results = new Integer[batch];
+
+        long singleTime = 0, batchTime = 0, found = 0;
+        for (int r = 0; r < 5; r++) {
+            long startTime = System.nanoTime();
+            for (Integer[] k : keys)
+                for (int i = 0; i < batch; i++)
+                    if (dict.search(k[i]) != null)
+                        found++;
+            long t1 = System.nanoTime();
+            for (Integer[] k : keys) {
+                dict.searchAll(k, results);
+                for (int i = 0; i < batch; i++)
+                    if (results[i] != null)
+                        found++;
+            }
+            long endTime = System.nanoTime();
+            if (r >= 2) { // 2 Aufwärmläufe
+                singleTime += t1 - startTime;
+                batchTime += endTime - t1;
+            }
+        }
+        System.out.println(name + ": " + requests + " x " + batch + " Suchen einzeln = " + singleTime / 3 / 1000
+                + "us, mit searchAll = " + batchTime / 3 / 1000 + "us (Treffer " + found / 10 + ")");
+    }
+
+    // Einfügen, erfolgreiches Suchen und Iterieren von 2 Mio. zufälligen Schlüsseln
+    private static void treeTest(Dictionary<Integer, Integer> dict, String name) {
+        final int n = 2_000_000;
+        Random random = new Random(42);
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = random.nextInt();
 
+        long startTime = System.nanoTime();
+        for (Integer k : keys)
+            dict.insert(k, k);
+        long insertTime = System.nanoTime() - startTime;
 
+        long searchTime = Long.MAX_VALUE;
+        long found = 0;
+        for (int r = 0; r < 3; r++) {
+            startTime = System.nanoTime();
+            for (Integer k : keys)
+                if (dict.search(k) != null)
+                    found++;
+            searchTime = Math.min(searchTime, System.nanoTime() - startTime);
+        }
+        startTime = System.nanoTime();
+        long sum = 0;
+        for (Dictionary.Entry<Integer, Integer> e : dict)
+            sum += e.getValue();
+        long iterateTime = System.nanoTime() - startTime;
+        System.out.println(name + ": " + dict.size() + " Eintraege, Einfuegen = " + insertTime / n + "ns, Suchen = "
+                + searchTime / n + "ns, Iterieren = " + iterateTime / dict.size() + "ns pro Eintrag ("
+                + found / 3 + " Treffer, Summe " + sum + ")");
+    }
+
+    // gemischte Last: 50000 zufällige Schlüssel aus [0, 100000) einfügen, danach je 50000-mal
+    // einfügen, suchen und löschen mit unabhängig gezogenen Schlüsseln aus demselben Bereich;
+    // Einfügen und Löschen halten sich die Waage, die Größe bleibt bei etwa 50000
+    private static void mixedTest(Dictionary<Integer, Integer> dict, String name) {
+        final int n = 50_000;
+        final int range = 2 * n;
+        Random random = new Random(42);
+        long startTime = System.nanoTime();
+        while (dict.size() < n)
+            dict.insert(random.nextInt(range), 0);
+        long insertTime = System.nanoTime() - startTime;
+
+        int[] keys = new int[3 * n];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = random.nextInt(range);
+        startTime = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < keys.length; i += 3) {
+            dict.insert(keys[i], i);
+            if (dict.search(keys[i + 1]) != null)
+                found++;
+            dict.remove(keys[i + 2]);
+        }
+        long mixedTime = System.nanoTime() - startTime;
+        System.out.println(name + ": Einfuegen fuer " + n + " Eintraege = " + insertTime / 1_000_000
+                + "ms, gemischt " + keys.length + " Operationen = " + mixedTime / 1_000_000 + "ms ("
+                + found + " Treffer, " + dict.size() + " Eintraege)");
+    }
+
+    // Skalierung mit 1, 2, 4, ... Threads bis zur Anzahl der Prozessoren (mindestens 4):
+    // je Thread 500000 Operationen, 50% Suchen, 25% Einfügen, 25% Löschen auf 100000 Schlüsseln.
+    // lock = true: jede Operation wird mit synchronized (dict) geschützt.
+    private static void scalingTest(Dictionary<Integer, Integer> dict, boolean lock, String name) {
+        final int range = 100_000;
+        final int ops = 500_000;
+        for (int i = 0; i < range; i += 2)
+            dict.insert(i, i);
+
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        for (int n = 1; n <= maxThreads; n *= 2) {
+            Thread[] threads = new Thread[n];
+            long[] found = new long[n];
+            for (int t = 0; t < n; t++) {
+                final int id = t;
+                threads[t] = new Thread(() -> {
+                    Random random = new Random(id);
+                    for (int i = 0; i < ops; i++) {
+                        Integer key = random.nextInt(range);
+                        int op = random.nextInt(4);
+                        if (lock) {
+                            synchronized (dict) {
+                                found[id] += scalingOp(dict, op, key);
+                            }
+                        } else {
+                            found[id] += scalingOp(dict, op, key);
+                        }
+                    }
+                });
+            }
+            long startTime = System.nanoTime();
+            for (Thread t : threads)
+                t.start();
+            for (Thread t : threads) {
+                try {
+                    t.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long time = System.nanoTime() - startTime;
+            System.out.println(name + ": " + n + " Threads = " + (long) n * ops * 1_000_000_000L / time
+                    + " Operationen/s (" + Arrays.stream(found).sum() + " Treffer, " + dict.size() + " Eintraege)");
+        }
+    }
+
+    private static int scalingOp(Dictionary<Integer, Integer> dict, int op, Integer key) {
+        switch (op) {
+            case 0:
+                dict.insert(key, key);
+                return 0;
+            case 1:
+                dict.remove(key);
+                return 0;
+            default:
+                return dict.search(key) != null ? 1 : 0;
+        }
+    }
 }
@@ -3,8 +3,12 @@
 package dictionary;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the Dictionary interface as AVL tree.
@@ -17,7 +21,7 @@ import java.util.NoSuchElementException;
  * @param <K> Key.
  * @param <V> Value.
  */
-public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements Dictionary<K, V> {
+public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements SortedDictionary<K, V> {
 
     static private class Node<K, V> {
         private K key;
@@ -39,120 +43,196 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
     
     private Node<K, V> root = null;
     private int size = 0;
-    
-    // ...
-    @Override
-    public V search(K key){
-        return searchR(key, root);
+    private int modCount = 0; // strukturelle Änderungen, für fail-fast Spliteratoren
+
+    /**
+     * Builds a perfectly balanced tree from entries in strictly ascending key order in O(n).
+     * @param sorted entries sorted by key without duplicates.
+     * @param <K> Key.
+     * @param <V> Value.
+     * @return a new dictionary containing the given entries.
+     * @throws IllegalArgumentException if the keys are not strictly ascending.
+     */
+    public static <K extends Comparable<? super K>, V> BinaryTreeDictionary<K, V> fromSorted(
+            List<? extends Entry<? extends K, ? extends V>> sorted) {
+        Node<K,V>[] nodes = newNodes(sorted.size());
+        int n = 0;
+        for (var e : sorted) {
+            if (n > 0 && nodes[n-1].key.compareTo(e.getKey()) >= 0)
+                throw new IllegalArgumentException("keys are not strictly ascending: " + e.getKey());
+            nodes[n++] = new Node<>(e.getKey(), e.getValue());
+        }
+        BinaryTreeDictionary<K, V> dict = new BinaryTreeDictionary<>();
+        dict.root = buildR(nodes, 0, n - 1, null);
+        dict.size = n;
+        return dict;
     }
 
-    private V searchR(K key, Node<K,V> p){
-        if(p == null)
-            return null;
-        else if(key.compareTo(p.key)<0)
-            return searchR(key, p.left);
-        else if (key.compareTo(p.key)>0)
-            return searchR(key, p.right);
-        else
-            return p.value;
+    /**
+     * Inserts all entries of other into this dictionary in O(n + m).
+     * Both trees are traversed in order, merged and rebuilt as perfectly balanced tree.
+     * For keys contained in both dictionaries the value of other wins; other is not modified.
+     * @param other the dictionary whose entries are to be added.
+     */
+    public void merge(BinaryTreeDictionary<K, V> other) {
+        Node<K,V>[] a = inorderNodes();
+        Node<K,V>[] b = other.inorderNodes();
+        Node<K,V>[] merged = newNodes(a.length + b.length);
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            int c = (i == a.length) ? 1 : (j == b.length) ? -1 : a[i].key.compareTo(b[j].key);
+            if (c < 0) {
+                merged[k++] = a[i++];
+            } else if (c > 0) {
+                merged[k++] = new Node<>(b[j].key, b[j].value); // Knoten von other nicht übernehmen
+                j++;
+            } else {
+                a[i].value = b[j++].value;
+                merged[k++] = a[i++];
+            }
+        }
+        root = buildR(merged, 0, k - 1, null);
+        size = k;
+        modCount++;
     }
 
-    private V oldValue; // Rückgabeparameter
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K,V>[] newNodes(int n) {
+        return (Node<K,V>[]) new Node<?,?>[n];
+    }
+
+    // alle Knoten in Inorder-Reihenfolge (iterativ über die Elternzeiger)
+    private Node<K,V>[] inorderNodes() {
+        Node<K,V>[] nodes = newNodes(size);
+        int n = 0;
+        for (Node<K,V> p = (root != null) ? leftMostDescendant(root) : null; p != null; ) {
+            nodes[n++] = p;
+            p = successor(p);
+        }
+        return nodes;
+    }
 
+    // verknüpft nodes[lo..hi] zu einem vollständig balancierten Teilbaum (mittleres Element als Wurzel)
+    private static <K, V> Node<K,V> buildR(Node<K,V>[] nodes, int lo, int hi, Node<K,V> parent) {
+        if (lo > hi)
+            return null;
+        int m = (lo + hi) >>> 1;
+        Node<K,V> p = nodes[m];
+        p.parent = parent;
+        p.left = buildR(nodes, lo, m - 1, p);
+        p.right = buildR(nodes, m + 1, hi, p);
+        int hl = (p.left == null) ? -1 : p.left.height;
+        int hr = (p.right == null) ? -1 : p.right.height;
+        p.height = Math.max(hl, hr) + 1;
+        return p;
+    }
+    
+    // ...
     @Override
-    public V insert(K key, V value){
-        root = insertR(key, value, root);
-        if(root != null)
-            root.parent = null;
-        return oldValue;
+    public V search(K key){
+        Node<K,V> p = root;
+        while(p != null){
+            int c = key.compareTo(p.key);
+            if(c < 0)
+                p = p.left;
+            else if(c > 0)
+                p = p.right;
+            else
+                return p.value;
+        }
+        return null;
     }
 
-    //Rückgabewert: neuer Wert ; Eingabeparameter: alter Baum
-    private Node<K,V> insertR(K key, V value, Node<K,V>p){
-        if (p == null){
-            p = new Node(key, value);
+    // iterativ: Abstieg bis zur Einfügestelle, dann über die Elternzeiger rebalancieren
+    @Override
+    public V insert(K key, V value){
+        if(root == null){
+            root = new Node<>(key, value);
             size++;
-            oldValue = null;
-        } else if (key.compareTo(p.key)<0) {
-            p.left = insertR(key, value, p.left);
-            if (p.left != null)
-                p.left.parent = p;
-        }else if (key.compareTo(p.key)>0) {
-            p.right = insertR(key, value, p.right);
-            if (p.right != null)
-                p.right.parent = p;
-        }else{
-            // Schlüssel ist bereits vorhanden
-            oldValue = p.value;
-            p.value = value;
+            modCount++;
+            return null;
+        }
+        Node<K,V> p = root;
+        for(;;){
+            int c = key.compareTo(p.key);
+            if(c == 0){
+                // Schlüssel ist bereits vorhanden
+                V oldValue = p.value;
+                p.value = value;
+                return oldValue;
+            }
+            Node<K,V> next = (c < 0) ? p.left : p.right;
+            if(next == null){
+                Node<K,V> q = new Node<>(key, value);
+                q.parent = p;
+                if(c < 0)
+                    p.left = q;
+                else
+                    p.right = q;
+                size++;
+                modCount++;
+                rebalanceUp(p);
+                return null;
+            }
+            p = next;
         }
-        p = balance(p); // erweiterung fü AVL-Bäume
-        return p;
     }
 
-
     @Override
     public V remove(K key){
-        root = removeR(key, root);
-        if(root != null)
-            root.parent = null;
-        return oldValue;
-    }
-
-    // löschen in binären Suchbäumen
-    private Node<K,V> removeR(K key, Node<K,V> p){
-        if(p == null){ oldValue = null;
-        } else if(key.compareTo(p.key) < 0) {
-            p.left = removeR(key, p.left);
-            if (p.left != null)
-                p.left.parent = p;
-
-        }else if(key.compareTo(p.key) > 0) {
-            p.right = removeR(key, p.right);
-            if (p.right != null)
-                p.right.parent = p;
-        }else if(p.left == null || p.right == null){
-            //p muss gelöscht werden & hat 1 Kind oder kein Kind:
-            oldValue = p.value;
-            p = (p.left != null) ? p.left : p.right;
-            size--;
-        } else {
-            // p muss gelöscht werden und hat zwei Kinder:
-            MinEntry<K,V> min = new MinEntry<K,V>();
-            p.right = getRemMinR(p.right, min);
-            if (p.right != null)
-                p.right.parent = p;
-            oldValue = p.value;
+        Node<K,V> p = root;
+        while(p != null){
+            int c = key.compareTo(p.key);
+            if(c == 0)
+                break;
+            p = (c < 0) ? p.left : p.right;
+        }
+        if(p == null)
+            return null;
+        V oldValue = p.value;
+        if(p.left != null && p.right != null){
+            // p hat zwei Kinder: Inhalt des Nachfolgers übernehmen und stattdessen diesen löschen
+            Node<K,V> min = leftMostDescendant(p.right);
             p.key = min.key;
             p.value = min.value;
-            size--;
+            p = min;
         }
-        p = balance(p); // wegen AVL-Baum
-        return p;
+        // p hat höchstens ein Kind und wird ausgehängt
+        Node<K,V> child = (p.left != null) ? p.left : p.right;
+        Node<K,V> parent = p.parent;
+        if(child != null)
+            child.parent = parent;
+        replaceChild(parent, p, child);
+        size--;
+        modCount++;
+        rebalanceUp(parent);
+        return oldValue;
     }
 
-    // getRemMinR löscht im Baum p den Knoten mit kleinstem Schlüssel
-    // und liefert Schlüssel und Daten des gelöschten Knotens über min zurück
-    private Node<K,V> getRemMinR(Node<K,V> p, MinEntry<K,V> min){
-        assert p != null;
-        if (p.left == null){
-            min.key = p.key;
-            min.value = p.value;
-            p = p.right;
-        } else {
-            p.left = getRemMinR(p.left, min);
-            if (p.left != null)
-                p.left.parent = p;
-        }
-        p = balance(p); // wegen AVL-Baum
-        return p;
+    // ersetzt bei parent das Kind oldChild durch newChild (parent == null: Wurzel)
+    private void replaceChild(Node<K,V> parent, Node<K,V> oldChild, Node<K,V> newChild){
+        if(parent == null)
+            root = newChild;
+        else if(parent.left == oldChild)
+            parent.left = newChild;
+        else
+            parent.right = newChild;
     }
 
-    // MinEntry is Hilfsdatentyp für Rückgabe-Parameter min
-    // von getRemMinR
-    private static class MinEntry<K, V>{
-        private K key;
-        private V value;
+    // von p bis zur Wurzel Höhen aktualisieren und rotieren;
+    // bricht ab, sobald ein Teilbaum ohne Rotation seine Höhe behält
+    private void rebalanceUp(Node<K,V> p){
+        while(p != null){
+            Node<K,V> parent = p.parent;
+            int oldHeight = p.height;
+            Node<K,V> q = balance(p);
+            q.parent = parent;
+            if(q != p)
+                replaceChild(parent, p, q);
+            else if(q.height == oldHeight)
+                return;
+            p = parent;
+        }
     }
 
     //impl. von leftMostDescendant
@@ -176,13 +256,92 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
         return this.size;
     }
 
+    // Knoten mit kleinstem Schlüssel >= key (null, falls es keinen gibt)
+    private Node<K,V> ceilingNode(K key){
+        Node<K,V> p = root;
+        Node<K,V> best = null;
+        while(p != null){
+            int c = key.compareTo(p.key);
+            if(c == 0)
+                return p;
+            if(c < 0){
+                best = p;
+                p = p.left;
+            } else {
+                p = p.right;
+            }
+        }
+        return best;
+    }
+
+    // Knoten mit größtem Schlüssel <= key (null, falls es keinen gibt)
+    private Node<K,V> floorNode(K key){
+        Node<K,V> p = root;
+        Node<K,V> best = null;
+        while(p != null){
+            int c = key.compareTo(p.key);
+            if(c == 0)
+                return p;
+            if(c > 0){
+                best = p;
+                p = p.right;
+            } else {
+                p = p.left;
+            }
+        }
+        return best;
+    }
+
+    private Entry<K,V> toEntry(Node<K,V> p){
+        return (p != null) ? new Entry<K,V>(p.key, p.value) : null;
+    }
+
+    @Override
+    public Entry<K,V> first(){
+        return (root != null) ? toEntry(leftMostDescendant(root)) : null;
+    }
+
+    @Override
+    public Entry<K,V> last(){
+        Node<K,V> p = root;
+        while(p != null && p.right != null)
+            p = p.right;
+        return toEntry(p);
+    }
+
+    @Override
+    public Entry<K,V> floor(K key){
+        return toEntry(floorNode(key));
+    }
+
+    @Override
+    public Entry<K,V> ceiling(K key){
+        return toEntry(ceilingNode(key));
+    }
+
+    @Override
+    public Iterator<Entry<K,V>> range(K from, K to){
+        Node<K,V> start;
+        if(from != null)
+            start = ceilingNode(from);
+        else
+            start = (root != null) ? leftMostDescendant(root) : null;
+        return new BinaryTreeIterator(start, to);
+    }
+
     @Override
     public Iterator<Entry<K,V>> iterator() {
-        return new BinaryTreeIterator();
+        return new BinaryTreeIterator((root != null) ? leftMostDescendant(root) : null, null);
     }
-    // Iterator :::::
+    // Iterator ::::: läuft ab start über die Nachfolger bis ausschließlich to (null = bis zum Ende)
     private class BinaryTreeIterator implements Iterator<Entry<K,V>>{
-        private Node<K,V> p = leftMostDescendant(root);
+        private Node<K,V> p;
+        private final K to;
+
+        private BinaryTreeIterator(Node<K,V> start, K to){
+            this.to = to;
+            this.p = (start != null && to != null && start.key.compareTo(to) >= 0) ? null : start;
+        }
 
         @Override
         public boolean hasNext(){
@@ -190,19 +349,102 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
         }
         @Override
         public Entry<K,V> next(){
+            if(p == null)
+                throw new NoSuchElementException();
             Entry<K,V> current = new Entry<K,V>(p.key, p.value);
 
-            if(p != null){
-                if(p.right != null){
-                    p = leftMostDescendant(p.right);
-                } else {
-                    p = parentOfLeftMostAncestor(p);
-                }
-            }
+            p = successor(p);
+            if(p != null && to != null && p.key.compareTo(to) >= 0)
+                p = null;
             return current;
         }
     }
 
+    // Nachfolger in Inorder-Reihenfolge über die Elternzeiger
+    private Node<K,V> successor(Node<K,V> p){
+        return (p.right != null) ? leftMostDescendant(p.right) : parentOfLeftMostAncestor(p);
+    }
+
+    @Override
+    public Spliterator<Entry<K,V>> spliterator(){
+        return new BinaryTreeSpliterator((root != null) ? leftMostDescendant(root) : null, null, 0, size,
+                modCount);
+    }
+
+    // Spliterator wie bei TreeMap: läuft von current bis ausschließlich fence.
+    // side = 0: ganzer Baum (an der Wurzel teilen), > 0: an current.right, < 0: an fence.left teilen;
+    // fail-fast über modCount
+    private class BinaryTreeSpliterator implements Spliterator<Entry<K,V>>{
+        private Node<K,V> current;
+        private final Node<K,V> fence;
+        private int side;
+        private int est;
+        private final int expectedModCount;
+
+        private BinaryTreeSpliterator(Node<K,V> current, Node<K,V> fence, int side, int est, int expectedModCount){
+            this.current = current;
+            this.fence = fence;
+            this.side = side;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<Entry<K,V>> trySplit(){
+            Node<K,V> e = current;
+            Node<K,V> f = fence;
+            Node<K,V> s = (e == null || e == f) ? null
+                    : (side == 0) ? root
+                    : (side > 0) ? e.right
+                    : (f != null) ? f.left : null;
+            if(s != null && s != e && s != f && e.key.compareTo(s.key) < 0){
+                side = 1;
+                est >>>= 1;
+                current = s;
+                return new BinaryTreeSpliterator(e, s, -1, est, expectedModCount);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K,V>> action){
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            Node<K,V> e = current;
+            if(e == null || e == fence)
+                return false;
+            current = successor(e);
+            action.accept(toEntry(e));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K,V>> action){
+            Node<K,V> e = current;
+            current = fence;
+            for(; e != null && e != fence; e = successor(e))
+                action.accept(toEntry(e));
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize(){
+            return est;
+        }
+
+        @Override
+        public int characteristics(){
+            return ((side == 0) ? Spliterator.SIZED : 0)
+                    | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Entry<K,V>> getComparator(){
+            return Comparator.comparing(Entry::getKey);
+        }
+    }
+
     // erweiterung für ALV-Bäume
 
     private int getHeight(Node<K,V> p){
@@ -219,6 +461,7 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
             return getHeight(p.right)-getHeight(p.left);
     }
 
+    // Rückgabe: neue Wurzel des Teilbaums; deren parent setzt der Aufrufer
     private Node<K,V>balance(Node<K,V>p){
         if(p==null)
             return null;
@@ -248,7 +491,10 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
         assert p.left != null;
         Node<K,V> q = p.left;
         p.left = q.right;
+        if(p.left != null)
+            p.left.parent = p;
         q.right = p;
+        p.parent = q;
         p.height = Math.max(getHeight(p.left), getHeight(p.right)) + 1;
         q.height = Math.max(getHeight(q.left), getHeight(q.right)) + 1;
         return q;
@@ -262,8 +508,7 @@ public class BinaryTreeDictionary<K extends Comparable<? super K>, V> implements
         if(p.right != null)
             p.right.parent = p;
         q.left = p;
-        if(q.left != null)
-            q.left.parent = q;
+        p.parent = q;
         p.height = Math.max(getHeight(p.left), getHeight(p.right)) + 1;
         q.height = Math.max(getHeight(q.left), getHeight(q.right)) + 1;
         return q;
@@ -0,0 +1,281 @@
+package dictionary;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Sorted dictionary stored in a list of sorted blocks (sqrt decomposition).
+ * <p>
+ * Like SortedArrayDictionary the entries are kept in sorted arrays, but split into
+ * blocks of at most {@value #BLOCK_SIZE} entries. A search is a binary search over the
+ * first keys of the blocks followed by a binary search within one block.
+ * insert and remove only shift entries within one block (plus the block references when
+ * a block is split or merged), i.e. O(B + n/B) instead of O(n) as in SortedArrayDictionary.
+ * <p>
+ * The entries are ordered using their natural ordering on the keys,
+ * or by a Comparator provided at creation time, depending on which constructor is used.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class BlockedSortedArrayDictionary<K, V> implements SortedDictionary<K, V> {
+    private static final int BLOCK_SIZE = 1024; // maximale Einträge pro Block
+    private static final int MERGE_SIZE = BLOCK_SIZE / 4; // darunter mit Nachbarblock verschmelzen
+    private static final int DEF_CAPACITY = 16;
+
+    private final Comparator<? super K> cmp;
+    private Entry<K,V>[][] blocks;
+    private int[] counts; // Anzahl Einträge je Block
+    private int blockCount;
+    private int size;
+    private int modCount; // strukturelle Änderungen, für fail-fast Iteratoren
+
+    public BlockedSortedArrayDictionary() {
+        this(null);
+    }
+
+    /**
+     * @param c comparator for the keys, or null for natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public BlockedSortedArrayDictionary(Comparator<? super K> c) {
+        if (c == null)
+            cmp = (x,y) -> ((Comparable<? super K>) x).compareTo(y);
+        else
+            cmp = c;
+        blocks = (Entry<K,V>[][]) new Entry<?,?>[4][];
+        counts = new int[4];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K,V> Entry<K,V>[] newBlock(int n) {
+        return (Entry<K,V>[]) new Entry<?,?>[n];
+    }
+
+    // letzter Block, dessen erster Schlüssel <= key ist (0, falls es keinen gibt)
+    private int blockIndex(K key) {
+        int li = 1;
+        int re = blockCount - 1;
+        while (li <= re) {
+            int m = (li + re) >>> 1;
+            if (cmp.compare(blocks[m][0].getKey(), key) <= 0)
+                li = m + 1;
+            else
+                re = m - 1;
+        }
+        return li - 1;
+    }
+
+    // Index des ersten Eintrags mit Schlüssel >= key in Block b
+    private int lowerBound(int b, K key) {
+        Entry<K,V>[] block = blocks[b];
+        int li = 0;
+        int re = counts[b];
+        while (li < re) {
+            int m = (li + re) >>> 1;
+            if (cmp.compare(block[m].getKey(), key) < 0)
+                li = m + 1;
+            else
+                re = m;
+        }
+        return li;
+    }
+
+    private boolean matches(int b, int i, K key) {
+        return i < counts[b] && cmp.compare(blocks[b][i].getKey(), key) == 0;
+    }
+
+    @Override
+    public V search(K key) {
+        if (blockCount == 0)
+            return null;
+        int b = blockIndex(key);
+        int i = lowerBound(b, key);
+        return matches(b, i, key) ? blocks[b][i].getValue() : null;
+    }
+
+    @Override
+    public V insert(K key, V value) {
+        if (blockCount == 0)
+            insertBlock(0, newBlock(DEF_CAPACITY));
+        int b = blockIndex(key);
+        int i = lowerBound(b, key);
+        if (matches(b, i, key))
+            return blocks[b][i].setValue(value);
+
+        if (counts[b] == BLOCK_SIZE) {
+            // voller Block: in zwei Hälften teilen
+            int half = BLOCK_SIZE / 2;
+            Entry<K,V>[] right = newBlock(BLOCK_SIZE);
+            System.arraycopy(blocks[b], half, right, 0, BLOCK_SIZE - half);
+            Arrays.fill(blocks[b], half, BLOCK_SIZE, null);
+            counts[b] = half;
+            insertBlock(b + 1, right);
+            counts[b + 1] = BLOCK_SIZE - half;
+            if (i > half) {
+                b++;
+                i -= half;
+            }
+        } else if (counts[b] == blocks[b].length) {
+            blocks[b] = Arrays.copyOf(blocks[b], Math.min(BLOCK_SIZE, 2 * counts[b]));
+        }
+        Entry<K,V>[] block = blocks[b];
+        System.arraycopy(block, i, block, i + 1, counts[b] - i);
+        block[i] = new Entry<K,V>(key, value);
+        counts[b]++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    private void insertBlock(int b, Entry<K,V>[] block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, 2 * blockCount);
+            counts = Arrays.copyOf(counts, 2 * blockCount);
+        }
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(counts, b, counts, b + 1, blockCount - b);
+        blocks[b] = block;
+        counts[b] = 0;
+        blockCount++;
+    }
+
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(counts, b + 1, counts, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+        counts[blockCount] = 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        if (blockCount == 0)
+            return null;
+        int b = blockIndex(key);
+        int i = lowerBound(b, key);
+        if (!matches(b, i, key))
+            return null;
+        Entry<K,V>[] block = blocks[b];
+        V r = block[i].getValue();
+        System.arraycopy(block, i + 1, block, i, counts[b] - i - 1);
+        block[--counts[b]] = null;
+        size--;
+        modCount++;
+
+        if (counts[b] == 0) {
+            removeBlock(b);
+        } else if (counts[b] < MERGE_SIZE) {
+            // kleinen Block mit einem Nachbarn verschmelzen, falls das Ergebnis höchstens halb voll ist
+            if (b + 1 < blockCount && counts[b] + counts[b + 1] <= BLOCK_SIZE / 2)
+                mergeBlocks(b);
+            else if (b > 0 && counts[b - 1] + counts[b] <= BLOCK_SIZE / 2)
+                mergeBlocks(b - 1);
+        }
+        return r;
+    }
+
+    // hängt Block b + 1 an Block b an
+    private void mergeBlocks(int b) {
+        int n = counts[b] + counts[b + 1];
+        if (blocks[b].length < n)
+            blocks[b] = Arrays.copyOf(blocks[b], Math.min(BLOCK_SIZE, Math.max(n, 2 * counts[b])));
+        System.arraycopy(blocks[b + 1], 0, blocks[b], counts[b], counts[b + 1]);
+        counts[b] = n;
+        removeBlock(b + 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Entry<K,V> first() {
+        return (size > 0) ? blocks[0][0] : null;
+    }
+
+    @Override
+    public Entry<K,V> last() {
+        return (size > 0) ? blocks[blockCount - 1][counts[blockCount - 1] - 1] : null;
+    }
+
+    @Override
+    public Entry<K,V> floor(K key) {
+        if (blockCount == 0)
+            return null;
+        int b = blockIndex(key);
+        int i = lowerBound(b, key);
+        if (matches(b, i, key))
+            return blocks[b][i];
+        // i == 0 ist nur im ersten Block möglich: key ist kleiner als alle Schlüssel
+        return (i > 0) ? blocks[b][i - 1] : null;
+    }
+
+    @Override
+    public Entry<K,V> ceiling(K key) {
+        if (blockCount == 0)
+            return null;
+        int b = blockIndex(key);
+        int i = lowerBound(b, key);
+        if (i < counts[b])
+            return blocks[b][i];
+        return (b + 1 < blockCount) ? blocks[b + 1][0] : null;
+    }
+
+    @Override
+    public Iterator<Entry<K,V>> range(K from, K to) {
+        if (from == null || blockCount == 0)
+            return new BlockedIterator(0, 0, to);
+        int b = blockIndex(from);
+        return new BlockedIterator(b, lowerBound(b, from), to);
+    }
+
+    @Override
+    public Iterator<Entry<K,V>> iterator() {
+        return new BlockedIterator(0, 0, null);
+    }
+
+    // läuft ab Block b, Position i bis ausschließlich to (null = bis zum Ende); fail-fast
+    private class BlockedIterator implements Iterator<Entry<K,V>> {
+        private int b;
+        private int i;
+        private final K to;
+        private final int expectedModCount = modCount;
+
+        private BlockedIterator(int b, int i, K to) {
+            this.b = b;
+            this.i = i;
+            this.to = to;
+            skipToValid();
+        }
+
+        private void skipToValid() {
+            if (b < blockCount && i == counts[b]) {
+                b++;
+                i = 0;
+            }
+            if (b < blockCount && to != null && cmp.compare(blocks[b][i].getKey(), to) >= 0)
+                b = blockCount; // Ende erreicht
+        }
+
+        @Override
+        public boolean hasNext() {
+            return b < blockCount;
+        }
+
+        @Override
+        public Entry<K,V> next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Entry<K,V> e = blocks[b][i++];
+            skipToValid();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package dictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact String dictionary whose keys and values are stored as UTF-8 bytes in one arena.
+ * <p>
+ * Each entry is a record {@code [keyLength][valueLength][key bytes][value bytes]}
+ * in a contiguous ByteBuffer, optionally allocated off-heap. The hash index consists of
+ * two int arrays (record offset and cached hash) with linear probing, so the
+ * dictionary holds no per-entry objects at all. Strings are only created for
+ * the results of search, remove and iteration.
+ * <p>
+ * Records replaced or removed become garbage in the arena; the arena is compacted
+ * when more than half of it is garbage. The arena is limited to 2 GB.
+ */
+public class ByteArenaDictionary implements Dictionary<String, String> {
+    private static final int DEF_CAPACITY = 16;
+    private static final float MAX_LOAD = 0.6f;
+    private static final int HEADER = 8; // keyLength + valueLength
+    private static final int NULL_VALUE = -1; // valueLength für den Wert null
+    private static final int FREE = 0; // Markierung für freien Slot in offsets
+
+    private final boolean offHeap;
+    private ByteBuffer arena;
+    private int arenaPos; // erste freie Position im Arena-Puffer
+    private int garbage; // Bytes toter Datensätze
+    private int[] offsets; // Datensatz-Offset + 1, FREE = Slot ist leer
+    private int[] hashes;
+    private int size;
+    private int threshold;
+
+    public ByteArenaDictionary() {
+        this(DEF_CAPACITY, false);
+    }
+
+    /**
+     * @param expectedSize number of entries that fit without resizing the index.
+     * @param offHeap if true, the arena is a direct (off-heap) buffer.
+     */
+    public ByteArenaDictionary(int expectedSize, boolean offHeap) {
+        this.offHeap = offHeap;
+        int cap = DEF_CAPACITY;
+        while (cap * MAX_LOAD < expectedSize)
+            cap *= 2;
+        offsets = new int[cap];
+        hashes = new int[cap];
+        threshold = (int) (cap * MAX_LOAD);
+        arena = allocate(Math.max(1024, expectedSize * 32));
+    }
+
+    private ByteBuffer allocate(int bytes) {
+        return offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+    }
+
+    /**
+     * Returns the number of bytes occupied in the arena (including garbage).
+     * @return used arena bytes.
+     */
+    public int arenaBytes() {
+        return arenaPos;
+    }
+
+    // FNV-1a über die UTF-8-Bytes, danach gemischt; so kann ohne Dekodieren neu gehasht werden
+    private static int hash(byte[] key) {
+        int h = 0x811c9dc5;
+        for (byte b : key)
+            h = (h ^ b) * 0x01000193;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private static byte[] encode(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int keyLength(int rec) {
+        return arena.getInt(rec);
+    }
+
+    private int valueLength(int rec) {
+        return arena.getInt(rec + 4);
+    }
+
+    private int recordLength(int rec) {
+        return HEADER + keyLength(rec) + Math.max(0, valueLength(rec));
+    }
+
+    private boolean keyEquals(int rec, byte[] key) {
+        if (keyLength(rec) != key.length)
+            return false;
+        int from = rec + HEADER;
+        if (arena.hasArray())
+            return Arrays.equals(arena.array(), arena.arrayOffset() + from,
+                    arena.arrayOffset() + from + key.length, key, 0, key.length);
+        for (int i = 0; i < key.length; i++) {
+            if (arena.get(from + i) != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private String decode(int from, int length) {
+        if (arena.hasArray())
+            return new String(arena.array(), arena.arrayOffset() + from, length, StandardCharsets.UTF_8);
+        byte[] b = new byte[length];
+        arena.get(from, b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private String keyOf(int rec) {
+        return decode(rec + HEADER, keyLength(rec));
+    }
+
+    private String valueOf(int rec) {
+        int len = valueLength(rec);
+        return (len == NULL_VALUE) ? null : decode(rec + HEADER + keyLength(rec), len);
+    }
+
+    // Slot des Schlüssels oder -1, falls nicht vorhanden
+    private int findSlot(byte[] key, int h) {
+        int mask = offsets.length - 1;
+        int i = h & mask;
+        while (offsets[i] != FREE) {
+            if (hashes[i] == h && keyEquals(offsets[i] - 1, key))
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public String search(String key) {
+        byte[] k = encode(key);
+        int i = findSlot(k, hash(k));
+        return (i >= 0) ? valueOf(offsets[i] - 1) : null;
+    }
+
+    @Override
+    public String insert(String key, String value) {
+        byte[] k = encode(key);
+        byte[] v = (value == null) ? null : encode(value);
+        int h = hash(k);
+        int i = findSlot(k, h);
+        if (i >= 0) {
+            // Vorhandener Eintrag: Wert an Ort und Stelle überschreiben, falls er hineinpasst
+            int rec = offsets[i] - 1;
+            String old = valueOf(rec);
+            int oldLen = Math.max(0, valueLength(rec));
+            int newLen = (v == null) ? 0 : v.length;
+            if (newLen <= oldLen) {
+                arena.putInt(rec + 4, (v == null) ? NULL_VALUE : v.length);
+                if (v != null)
+                    arena.put(rec + HEADER + k.length, v);
+                garbage += oldLen - newLen;
+            } else {
+                garbage += recordLength(rec);
+                offsets[i] = append(k, v) + 1;
+                compactIfNeeded();
+            }
+            return old;
+        }
+        // Neuer Eintrag im ersten freien Slot:
+        int mask = offsets.length - 1;
+        i = h & mask;
+        while (offsets[i] != FREE)
+            i = (i + 1) & mask;
+        hashes[i] = h;
+        offsets[i] = append(k, v) + 1;
+        if (++size > threshold)
+            resize(2 * offsets.length);
+        return null;
+    }
+
+    @Override
+    public String remove(String key) {
+        byte[] k = encode(key);
+        int i = findSlot(k, hash(k));
+        if (i < 0)
+            return null;
+        int rec = offsets[i] - 1;
+        String old = valueOf(rec);
+        garbage += recordLength(rec);
+        deleteSlot(i);
+        compactIfNeeded();
+        return old;
+    }
+
+    // Datensatz ans Ende der Arena anhängen; liefert seinen Offset
+    private int append(byte[] k, byte[] v) {
+        int len = HEADER + k.length + ((v == null) ? 0 : v.length);
+        ensureArena(len);
+        int rec = arenaPos;
+        arena.putInt(rec, k.length);
+        arena.putInt(rec + 4, (v == null) ? NULL_VALUE : v.length);
+        arena.put(rec + HEADER, k);
+        if (v != null)
+            arena.put(rec + HEADER + k.length, v);
+        arenaPos += len;
+        return rec;
+    }
+
+    private void ensureArena(int extra) {
+        long needed = (long) arenaPos + extra;
+        if (needed <= arena.capacity())
+            return;
+        if (needed > Integer.MAX_VALUE)
+            throw new IllegalStateException("arena exceeds 2 GB");
+        ByteBuffer newArena = allocate((int) Math.min(Integer.MAX_VALUE, Math.max(needed, 2L * arena.capacity())));
+        newArena.put(0, arena, 0, arenaPos);
+        arena = newArena;
+    }
+
+    // Arena neu aufbauen, wenn mehr als die Hälfte aus toten Datensätzen besteht
+    private void compactIfNeeded() {
+        if (garbage <= 4096 || garbage <= arenaPos / 2)
+            return;
+        ByteBuffer newArena = allocate(Math.max(1024, 2 * (arenaPos - garbage)));
+        int pos = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] == FREE)
+                continue;
+            int rec = offsets[i] - 1;
+            int len = recordLength(rec);
+            newArena.put(pos, arena, rec, len);
+            offsets[i] = pos + 1;
+            pos += len;
+        }
+        arena = newArena;
+        arenaPos = pos;
+        garbage = 0;
+    }
+
+    // Backward shift deletion wie in OpenHashDictionary
+    private void deleteSlot(int i) {
+        int mask = offsets.length - 1;
+        int gap = i;
+        int j = (i + 1) & mask;
+        while (offsets[j] != FREE) {
+            int home = hashes[j] & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                offsets[gap] = offsets[j];
+                hashes[gap] = hashes[j];
+                gap = j;
+            }
+            j = (j + 1) & mask;
+        }
+        offsets[gap] = FREE;
+        size--;
+    }
+
+    private void resize(int newCap) {
+        int[] oldOffsets = offsets;
+        int[] oldHashes = hashes;
+        offsets = new int[newCap];
+        hashes = new int[newCap];
+        threshold = (int) (newCap * MAX_LOAD);
+        int mask = newCap - 1;
+        for (int k = 0; k < oldOffsets.length; k++) {
+            if (oldOffsets[k] == FREE)
+                continue;
+            int i = oldHashes[k] & mask;
+            while (offsets[i] != FREE)
+                i = (i + 1) & mask;
+            offsets[i] = oldOffsets[k];
+            hashes[i] = oldHashes[k];
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+        return new ArenaIterator();
+    }
+
+    // Liefert dekodierte Kopien der Einträge; setValue wirkt nicht auf das Dictionary zurück.
+    private class ArenaIterator implements Iterator<Entry<String, String>> {
+        private int slot = advance(0);
+
+        private int advance(int i) {
+            while (i < offsets.length && offsets[i] == FREE)
+                i++;
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < offsets.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int rec = offsets[slot] - 1;
+            Entry<String, String> e = new Entry<>(keyOf(rec), valueOf(rec));
+            slot = advance(slot + 1);
+            return e;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package dictionary;
+
+import java.util.Iterator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decorator that puts a bounded cache in front of a (slow) backing Dictionary,
+ * e.g. {@code new CachingDictionary<>(MappedDictionary.open(path), 1000, Policy.TINY_LFU)}.
+ * <p>
+ * search is read-through: a miss is answered by the backing dictionary and the entry
+ * is admitted to the cache. insert and remove are write-through, so the backing dictionary
+ * always holds all entries; size and iteration are taken from it. The backing dictionary
+ * may already contain entries, but must not be modified except through this decorator.
+ * <p>
+ * The cached entries are kept in an internal HashDictionary that maps each key to a cache
+ * node. The nodes are linked in recency lists, so every operation costs one operation on
+ * the backing dictionary (none for a hit) plus expected O(1) for the cache.
+ * <p>
+ * Eviction policies:
+ * <ul>
+ * <li>LRU: the least recently used entry is evicted.</li>
+ * <li>TINY_LFU: W-TinyLFU. New entries enter a small LRU window (1% of the weight);
+ * entries leaving the window compete with the eviction victim of the segmented LRU main
+ * area (probation/protected) and are only admitted if they were accessed more often
+ * according to a count-min frequency sketch.</li>
+ * </ul>
+ * The weight of an entry is given by a weigher; by default every entry has weight 1,
+ * so the bound is the maximum number of cached entries. search counts as an access.
+ * Entries with value null are not cached.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class CachingDictionary<K, V> implements Dictionary<K, V> {
+
+    /**
+     * Eviction policy of a CachingDictionary.
+     */
+    public enum Policy { LRU, TINY_LFU }
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    // Cache-Knoten, Wert im internen Index
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private int weight;
+        private byte segment;
+        private Node<K, V> prev; // Richtung Listenanfang (zuletzt benutzt)
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    // doppelt verkettete Liste, Anfang = zuletzt benutzt
+    private static final class NodeList<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private long weight;
+
+        private void addFirst(Node<K, V> n) {
+            n.prev = null;
+            n.next = head;
+            if (head != null)
+                head.prev = n;
+            else
+                tail = n;
+            head = n;
+            weight += n.weight;
+        }
+
+        private void unlink(Node<K, V> n) {
+            if (n.prev != null)
+                n.prev.next = n.next;
+            else
+                head = n.next;
+            if (n.next != null)
+                n.next.prev = n.prev;
+            else
+                tail = n.prev;
+            n.prev = null;
+            n.next = null;
+            weight -= n.weight;
+        }
+    }
+
+    private final Dictionary<K, V> backing;
+    private final Dictionary<K, Node<K, V>> index = new HashDictionary<>(3);
+    private final Policy policy;
+    private final long maxWeight;
+    private final ToIntFunction<? super V> weigher;
+    private final long windowMax;
+    private final long protectedMax;
+    private final NodeList<K, V> window = new NodeList<>(); // bei LRU die einzige Liste
+    private final NodeList<K, V> probation = new NodeList<>();
+    private final NodeList<K, V> protect = new NodeList<>();
+    private final FrequencySketch sketch;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache bounded by the number of cached entries.
+     * @param backing dictionary to be decorated; holds all entries.
+     * @param maxEntries maximum number of cached entries.
+     * @param policy eviction policy.
+     */
+    public CachingDictionary(Dictionary<K, V> backing, int maxEntries, Policy policy) {
+        this(backing, maxEntries, v -> 1, policy);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its cached entries.
+     * @param backing dictionary to be decorated; holds all entries.
+     * @param maxWeight maximum total weight.
+     * @param weigher computes the (non-negative) weight of a value.
+     * @param policy eviction policy.
+     */
+    public CachingDictionary(Dictionary<K, V> backing, long maxWeight,
+                             ToIntFunction<? super V> weigher, Policy policy) {
+        if (maxWeight <= 0)
+            throw new IllegalArgumentException("maxWeight must be positive");
+        this.backing = backing;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.policy = policy;
+        this.windowMax = (policy == Policy.LRU) ? maxWeight : Math.max(1, maxWeight / 100);
+        this.protectedMax = (maxWeight - windowMax) * 8 / 10;
+        this.sketch = (policy == Policy.TINY_LFU) ? new FrequencySketch() : null;
+    }
+
+    private int weigh(V value) {
+        int w = weigher.applyAsInt(value);
+        if (w < 0)
+            throw new IllegalArgumentException("negative weight");
+        return w;
+    }
+
+    private NodeList<K, V> listOf(Node<K, V> n) {
+        return (n.segment == WINDOW) ? window : (n.segment == PROBATION) ? probation : protect;
+    }
+
+    @Override
+    public V search(K key) {
+        Node<K, V> n = index.search(key);
+        if (sketch != null)
+            sketch.increment(key.hashCode(), index.size());
+        if (n != null) {
+            hits++;
+            onAccess(n);
+            return n.value;
+        }
+        misses++;
+        V value = backing.search(key);
+        if (value != null)
+            admit(key, value);
+        return value;
+    }
+
+    @Override
+    public V insert(K key, V value) {
+        V old = backing.insert(key, value); // zuerst, falls backing die Änderung ablehnt
+        Node<K, V> n = index.search(key);
+        if (sketch != null)
+            sketch.increment(key.hashCode(), index.size());
+        if (value == null) {
+            if (n != null)
+                drop(n);
+        } else if (n != null) {
+            int w = weigh(value);
+            NodeList<K, V> list = listOf(n);
+            list.weight += w - n.weight;
+            n.weight = w;
+            n.value = value;
+            onAccess(n);
+            evict();
+        } else {
+            admit(key, value);
+        }
+        return old;
+    }
+
+    // neuen Eintrag ins Fenster aufnehmen
+    private void admit(K key, V value) {
+        Node<K, V> n = new Node<>(key, value, weigh(value));
+        index.insert(key, n);
+        n.segment = WINDOW;
+        window.addFirst(n);
+        evict();
+    }
+
+    private void drop(Node<K, V> n) {
+        listOf(n).unlink(n);
+        index.remove(n.key);
+    }
+
+    @Override
+    public V remove(K key) {
+        V old = backing.remove(key);
+        Node<K, V> n = index.search(key);
+        if (n != null)
+            drop(n);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return backing.size();
+    }
+
+    /**
+     * Returns the number of entries currently held in the cache.
+     * @return number of cached entries.
+     */
+    public int cachedCount() {
+        return index.size();
+    }
+
+    /**
+     * Returns the total weight of all entries.
+     * @return the total weight.
+     */
+    public long weight() {
+        return window.weight + probation.weight + protect.weight;
+    }
+
+    /**
+     * Returns the number of successful searches.
+     * @return hit count.
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of unsuccessful searches.
+     * @return miss count.
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted because of the bound.
+     * @return eviction count.
+     */
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns hits / (hits + misses), or 1 if there were no searches.
+     * @return the hit rate.
+     */
+    public double hitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 1.0 : (double) hits / total;
+    }
+
+    private void onAccess(Node<K, V> n) {
+        if (n.segment == PROBATION) {
+            // zweiter Zugriff im Hauptbereich: in den geschützten Bereich befördern
+            probation.unlink(n);
+            n.segment = PROTECTED;
+            protect.addFirst(n);
+            while (protect.weight > protectedMax && protect.tail != null) {
+                Node<K, V> demoted = protect.tail;
+                protect.unlink(demoted);
+                demoted.segment = PROBATION;
+                probation.addFirst(demoted);
+            }
+        } else {
+            NodeList<K, V> list = listOf(n);
+            list.unlink(n);
+            list.addFirst(n);
+        }
+    }
+
+    private void evict() {
+        if (policy == Policy.LRU) {
+            while (window.weight > maxWeight)
+                evictNode(window.tail);
+            return;
+        }
+        // Überlauf des Fensters wandert an den Anfang von probation; der älteste davon
+        // ist der erste Kandidat, neuere Kandidaten liegen in Richtung Listenanfang
+        Node<K, V> candidate = null;
+        while (window.weight > windowMax && window.tail != null) {
+            Node<K, V> n = window.tail;
+            window.unlink(n);
+            n.segment = PROBATION;
+            probation.addFirst(n);
+            if (candidate == null)
+                candidate = n;
+        }
+        while (weight() > maxWeight) {
+            Node<K, V> victim = (probation.tail != null) ? probation.tail
+                    : (protect.tail != null) ? protect.tail : window.tail;
+            if (candidate == null || candidate == victim || victim.segment != PROBATION) {
+                if (victim == candidate)
+                    candidate = victim.prev;
+                evictNode(victim);
+            } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                evictNode(victim); // Kandidat wird zugelassen
+            } else {
+                Node<K, V> next = candidate.prev;
+                evictNode(candidate);
+                candidate = next;
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> n) {
+        drop(n);
+        evictions++;
+    }
+
+    // Iteration über backing, ohne remove und mit Kopien der Einträge:
+    // Änderungen am Cache vorbei würden ihn veralten lassen
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        Iterator<Entry<K, V>> it = backing.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                Entry<K, V> e = it.next();
+                return new Entry<>(e.getKey(), e.getValue());
+            }
+        };
+    }
+
+    // Count-Min-Sketch mit 4 Zeilen und Zählern bis 15; halbiert alle Zähler
+    // nach 10 * Breite Inkrementen, damit alte Häufigkeiten verblassen
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0x1b873593, 0xcc9e2d51, 0x85ebca6b};
+        private static final int MAX_COUNT = 15;
+        private int[] table = new int[4 * 16];
+        private int width = 16;
+        private int additions;
+
+        private int indexOf(int hash, int row) {
+            int h = (hash + row) * SEEDS[row];
+            h ^= h >>> 16;
+            return row * width + (h & (width - 1));
+        }
+
+        // die Breite wächst mit der Anzahl der Einträge (Zähler werden dabei zurückgesetzt)
+        private void increment(int hash, int entries) {
+            if (entries > width && width < (1 << 24)) {
+                width = Integer.highestOneBit(entries - 1) << 1;
+                table = new int[4 * width];
+                additions = 0;
+            }
+            for (int row = 0; row < 4; row++) {
+                int i = indexOf(hash, row);
+                if (table[i] < MAX_COUNT)
+                    table[i]++;
+            }
+            if (++additions >= 10 * width) {
+                for (int i = 0; i < table.length; i++)
+                    table[i] >>>= 1;
+                additions /= 2;
+            }
+        }
+
+        private int frequency(int hash) {
+            int f = MAX_COUNT;
+            for (int row = 0; row < 4; row++)
+                f = Math.min(f, table[indexOf(hash, row)]);
+            return f;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package dictionary;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe implementation of the Dictionary interface as hash table with lock striping.
+ * <p>
+ * The table is split into segments, each guarded by its own lock, so writers
+ * on different segments do not block each other. Reads ({@code search}, {@code size}, iteration)
+ * take no lock at all: chain nodes are immutable except for their volatile value,
+ * and buckets are published through an {@link AtomicReferenceArray}.
+ * <p>
+ * The iterator is weakly consistent: it never throws a ConcurrentModificationException
+ * and reflects some (but not necessarily all) modifications made after its creation.
+ * Neither keys nor values may be null.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class ConcurrentHashDictionary<K, V> implements Dictionary<K, V> {
+    private static final int DEF_CONCURRENCY = 16;
+    private static final int SEGMENT_CAPACITY = 16; // Anfangsgröße je Segment (Zweierpotenz)
+    private static final float MAX_LOAD = 0.75f;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    // unveränderlicher Kettenknoten; nur value wird überschrieben
+    private static final class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private volatile V value;
+        private final Node<K, V> next;
+
+        private Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // Teiltabelle mit eigenem Lock; nur Schreiber sperren
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile AtomicReferenceArray<Node<K, V>> table;
+        private volatile int count;
+        private int threshold;
+
+        private Segment(int cap) {
+            setTable(new AtomicReferenceArray<>(cap));
+        }
+
+        private void setTable(AtomicReferenceArray<Node<K, V>> t) {
+            threshold = (int) (t.length() * MAX_LOAD);
+            table = t;
+        }
+
+        private Node<K, V> find(Object key, int h) {
+            AtomicReferenceArray<Node<K, V>> t = table;
+            for (Node<K, V> p = t.get(h & (t.length() - 1)); p != null; p = p.next) {
+                if (p.hash == h && p.key.equals(key))
+                    return p;
+            }
+            return null;
+        }
+
+        private V insert(K key, int h, V value) {
+            lock.lock();
+            try {
+                Node<K, V> p = find(key, h);
+                if (p != null) {
+                    V r = p.value;
+                    p.value = value;
+                    return r;
+                }
+                if (count + 1 > threshold)
+                    resize();
+                AtomicReferenceArray<Node<K, V>> t = table;
+                int i = h & (t.length() - 1);
+                t.set(i, new Node<>(h, key, value, t.get(i)));
+                count++;
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private V remove(Object key, int h) {
+            lock.lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> t = table;
+                int i = h & (t.length() - 1);
+                Node<K, V> first = t.get(i);
+                Node<K, V> p = first;
+                while (p != null && !(p.hash == h && p.key.equals(key)))
+                    p = p.next;
+                if (p == null)
+                    return null;
+                // Knoten vor p kopieren, da next final ist; laufende Leser sehen weiter die alte Kette
+                Node<K, V> newFirst = p.next;
+                for (Node<K, V> q = first; q != p; q = q.next)
+                    newFirst = new Node<>(q.hash, q.key, q.value, newFirst);
+                t.set(i, newFirst);
+                count--;
+                return p.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // nur unter Lock: neue, doppelt so große Tabelle aufbauen und dann veröffentlichen
+        private void resize() {
+            AtomicReferenceArray<Node<K, V>> oldTab = table;
+            AtomicReferenceArray<Node<K, V>> newTab = new AtomicReferenceArray<>(2 * oldTab.length());
+            int mask = newTab.length() - 1;
+            for (int i = 0; i < oldTab.length(); i++) {
+                for (Node<K, V> p = oldTab.get(i); p != null; p = p.next) {
+                    int j = p.hash & mask;
+                    newTab.set(j, new Node<>(p.hash, p.key, p.value, newTab.get(j)));
+                }
+            }
+            setTable(newTab);
+        }
+    }
+
+    public ConcurrentHashDictionary() {
+        this(DEF_CONCURRENCY);
+    }
+
+    /**
+     * @param concurrencyLevel expected number of concurrently writing threads;
+     *                         rounded up to the next power of two segments.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashDictionary(int concurrencyLevel) {
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("concurrencyLevel must be positive");
+        int n = 1;
+        int shift = 0;
+        while (n < concurrencyLevel) {
+            n *= 2;
+            shift++;
+        }
+        segmentShift = 32 - shift;
+        segmentMask = n - 1;
+        segments = (Segment<K, V>[]) new Segment<?, ?>[n];
+        for (int i = 0; i < n; i++)
+            segments[i] = new Segment<>(SEGMENT_CAPACITY);
+    }
+
+    // Hashcode mischen (murmur3 fmix32); obere Bits wählen das Segment, untere den Bucket
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private Segment<K, V> segmentFor(int h) {
+        return segments[(h >>> segmentShift) & segmentMask];
+    }
+
+    @Override
+    public V insert(K key, V value) {
+        if (value == null)
+            throw new NullPointerException("null values are not supported");
+        int h = hash(key);
+        return segmentFor(h).insert(key, h, value);
+    }
+
+    @Override
+    public V search(K key) {
+        int h = hash(key);
+        Node<K, V> p = segmentFor(h).find(key, h);
+        return (p != null) ? p.value : null;
+    }
+
+    @Override
+    public V remove(K key) {
+        int h = hash(key);
+        return segmentFor(h).remove(key, h);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> seg : segments)
+            size += seg.count;
+        return size;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new ConcurrentHashIterator();
+    }
+
+    // size() ist bei gleichzeitigen Änderungen nur eine Momentaufnahme, daher ohne SIZED
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // schwach konsistent: läuft über einen Schnappschuss der Tabelle jedes Segments
+    private class ConcurrentHashIterator implements Iterator<Entry<K, V>> {
+        private int segIdx = -1;
+        private AtomicReferenceArray<Node<K, V>> tab;
+        private int tabIdx;
+        private Node<K, V> p;
+
+        private ConcurrentHashIterator() {
+            advance();
+        }
+
+        private void advance() {
+            if (p != null)
+                p = p.next;
+            while (p == null) {
+                if (tab != null && tabIdx < tab.length()) {
+                    p = tab.get(tabIdx++);
+                } else if (segIdx + 1 < segments.length) {
+                    tab = segments[++segIdx].table;
+                    tabIdx = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return p != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (p == null)
+                throw new NoSuchElementException();
+            Entry<K, V> e = new Entry<>(p.key, p.value);
+            advance();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package dictionary;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread-safe sorted dictionary implemented as lock-free skip list (Herlihy/Shavit).
+ * <p>
+ * Each node is linked on a random number of levels; a search descends from the sparse
+ * top level to level 0 in expected O(log n) steps. The links of a node are kept in an
+ * {@link AtomicReferenceArray}: a node is removed by first replacing its value with a
+ * tombstone (logical removal, decides which remover wins), then marking its links from
+ * the top level down (a marked link can no longer be changed) and finally unlinking it,
+ * which any thread passing by may complete.
+ * No operation takes a lock; search does not even write.
+ * <p>
+ * Iteration and range scans are weakly consistent like in ConcurrentHashDictionary:
+ * they never throw a ConcurrentModificationException and return copies of the entries.
+ * size is exact only without concurrent modifications. Neither keys nor values may be null.
+ * <p>
+ * The entries are ordered using their natural ordering on the keys,
+ * or by a Comparator provided at creation time, depending on which constructor is used.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class ConcurrentSkipListDictionary<K, V> implements SortedDictionary<K, V> {
+    private static final int MAX_LEVEL = 24; // reicht für ca. 2^24 Einträge ohne Leistungsverlust
+    private static final Object REMOVED = new Object(); // Grabstein für logisch gelöschte Knoten
+
+    private static final class Node<K> {
+        private final K key;
+        private final AtomicReference<Object> value; // Wert oder REMOVED
+        private final AtomicReferenceArray<Object> next; // Nachfolger je Ebene: Node, Marked oder null
+
+        private Node(K key, Object value, int levels) {
+            this.key = key;
+            this.value = new AtomicReference<>(value);
+            this.next = new AtomicReferenceArray<>(levels);
+        }
+
+        private boolean isRemoved() {
+            return value.get() == REMOVED;
+        }
+
+        private int levels() {
+            return next.length();
+        }
+    }
+
+    // markierter Zeiger: der Knoten, der ihn enthält, wird gelöscht.
+    // Ohne Markierung steht der Nachfolger direkt im Feld, das spart beim Suchen eine Indirektion.
+    private static final class Marked<K> {
+        private final Node<K> node;
+
+        private Marked(Node<K> node) {
+            this.node = node;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K> successor(Node<K> p, int level) {
+        Object o = p.next.get(level);
+        return (o instanceof Marked) ? ((Marked<K>) o).node : (Node<K>) o;
+    }
+
+    private final Comparator<? super K> cmp;
+    private final Node<K> head = new Node<>(null, null, MAX_LEVEL); // Schlüssel -unendlich
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentSkipListDictionary() {
+        this(null);
+    }
+
+    /**
+     * @param c comparator for the keys, or null for natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentSkipListDictionary(Comparator<? super K> c) {
+        if (c == null)
+            cmp = (x, y) -> ((Comparable<? super K>) x).compareTo(y);
+        else
+            cmp = c;
+    }
+
+    // geometrisch verteilt mit p = 1/2
+    private static int randomLevels() {
+        int r = ThreadLocalRandom.current().nextInt();
+        int levels = 1;
+        while ((r & 1) != 0 && levels < MAX_LEVEL) {
+            levels++;
+            r >>>= 1;
+        }
+        return levels;
+    }
+
+    // Sucht auf jeder Ebene den letzten Knoten < key (preds) und seinen Nachfolger (succs).
+    // Markierte Knoten werden dabei ausgehängt; scheitert das, beginnt die Suche neu.
+    @SuppressWarnings("unchecked")
+    private boolean find(K key, Node<K>[] preds, Node<K>[] succs) {
+        retry:
+        while (true) {
+            Node<K> pred = head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<K> curr = successor(pred, level);
+                while (curr != null) {
+                    Object succ = curr.next.get(level);
+                    while (succ instanceof Marked) {
+                        // schlägt fehl, wenn pred selbst markiert oder sein Nachfolger geändert wurde
+                        if (!pred.next.compareAndSet(level, curr, ((Marked<K>) succ).node))
+                            continue retry;
+                        curr = ((Marked<K>) succ).node;
+                        if (curr == null)
+                            break;
+                        succ = curr.next.get(level);
+                    }
+                    if (curr == null || cmp.compare(curr.key, key) >= 0)
+                        break;
+                    pred = curr;
+                    curr = (Node<K>) succ;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != null && cmp.compare(succs[0].key, key) == 0;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V search(K key) {
+        Objects.requireNonNull(key);
+        // nur lesend: markierte Knoten werden übersprungen, nicht ausgehängt
+        Node<K> pred = head;
+        Node<K> curr = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = successor(pred, level);
+            while (curr != null) {
+                Object succ = curr.next.get(level);
+                if (succ instanceof Marked) {
+                    curr = ((Marked<K>) succ).node;
+                    continue;
+                }
+                if (cmp.compare(curr.key, key) >= 0)
+                    break;
+                pred = curr;
+                curr = (Node<K>) succ;
+            }
+        }
+        if (curr == null || cmp.compare(curr.key, key) != 0)
+            return null;
+        Object v = curr.value.get();
+        return (v == REMOVED) ? null : (V) v;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V insert(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Node<K>[] preds = newNodes();
+        Node<K>[] succs = newNodes();
+        int levels = randomLevels();
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<K> found = succs[0];
+                Object v;
+                while ((v = found.value.get()) != REMOVED) {
+                    if (found.value.compareAndSet(v, value))
+                        return (V) v;
+                }
+                // wird gerade gelöscht: Löschen selbst zu Ende führen statt zu warten,
+                // das nächste find hängt den Knoten aus
+                markLinks(found);
+                continue;
+            }
+            Node<K> node = new Node<>(key, value, levels);
+            for (int level = 0; level < levels; level++)
+                node.next.set(level, succs[level]);
+            // Ebene 0 entscheidet: danach ist der Eintrag enthalten
+            if (!preds[0].next.compareAndSet(0, succs[0], node))
+                continue;
+            size.incrementAndGet();
+            for (int level = 1; level < levels; level++) {
+                while (true) {
+                    Node<K> succ = succs[level];
+                    Object old = node.next.get(level);
+                    // eigenen Zeiger nachführen; ist er markiert, wird der Knoten schon gelöscht
+                    if (old instanceof Marked || (old != succ && !node.next.compareAndSet(level, old, succ)))
+                        return null;
+                    if (preds[level].next.compareAndSet(level, succ, node))
+                        break;
+                    find(key, preds, succs);
+                    if (succs[0] != node)
+                        return null; // bereits wieder entfernt
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        Node<K>[] preds = newNodes();
+        Node<K>[] succs = newNodes();
+        if (!find(key, preds, succs))
+            return null;
+        Node<K> victim = succs[0];
+        // logisch löschen: wer den Grabstein setzt, hat den Eintrag entfernt
+        Object v;
+        do {
+            v = victim.value.get();
+            if (v == REMOVED)
+                return null;
+        } while (!victim.value.compareAndSet(v, REMOVED));
+        size.decrementAndGet();
+        markLinks(victim);
+        find(key, preds, succs); // physisch aushängen
+        return (V) v;
+    }
+
+    // Zeiger eines logisch gelöschten Knotens von oben nach unten markieren;
+    // idempotent, darf von jedem Thread (auch mehrfach) ausgeführt werden
+    @SuppressWarnings("unchecked")
+    private static <K> void markLinks(Node<K> victim) {
+        for (int level = victim.levels() - 1; level >= 0; level--) {
+            Object succ;
+            do {
+                succ = victim.next.get(level);
+            } while (!(succ instanceof Marked)
+                    && !victim.next.compareAndSet(level, succ, new Marked<>((Node<K>) succ)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K>[] newNodes() {
+        return (Node<K>[]) new Node<?>[MAX_LEVEL];
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> toEntry(Node<K> p) {
+        Object v = p.value.get();
+        return (v == REMOVED) ? null : new Entry<>(p.key, (V) v);
+    }
+
+    // erster nicht gelöschter Knoten mit Schlüssel >= key (key == null: erster überhaupt)
+    private Node<K> ceilingNode(K key) {
+        Node<K> pred = head;
+        if (key != null) {
+            for (int level = MAX_LEVEL - 1; level > 0; level--) {
+                Node<K> curr = successor(pred, level);
+                while (curr != null && cmp.compare(curr.key, key) < 0) {
+                    pred = curr;
+                    curr = successor(curr, level);
+                }
+            }
+        }
+        Node<K> curr = successor(pred, 0);
+        while (curr != null && (curr.isRemoved() || (key != null && cmp.compare(curr.key, key) < 0)))
+            curr = successor(curr, 0);
+        return curr;
+    }
+
+    // letzter nicht gelöschter Knoten mit Schlüssel <= key (key == null: letzter überhaupt)
+    private Node<K> floorNode(K key) {
+        Node<K> pred = head;
+        Node<K> best = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<K> curr = successor(pred, level);
+            while (curr != null && (key == null || cmp.compare(curr.key, key) <= 0)) {
+                pred = curr;
+                if (!curr.isRemoved())
+                    best = curr;
+                curr = successor(curr, level);
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Entry<K, V> first() {
+        Node<K> p;
+        Entry<K, V> e;
+        do {
+            p = ceilingNode(null);
+            e = (p != null) ? toEntry(p) : null;
+        } while (p != null && e == null); // inzwischen gelöscht: erneut suchen
+        return e;
+    }
+
+    @Override
+    public Entry<K, V> last() {
+        return floor(null);
+    }
+
+    @Override
+    public Entry<K, V> floor(K key) {
+        Node<K> p;
+        Entry<K, V> e;
+        do {
+            p = floorNode(key);
+            e = (p != null) ? toEntry(p) : null;
+        } while (p != null && e == null);
+        return e;
+    }
+
+    @Override
+    public Entry<K, V> ceiling(K key) {
+        Objects.requireNonNull(key);
+        Node<K> p;
+        Entry<K, V> e;
+        do {
+            p = ceilingNode(key);
+            e = (p != null) ? toEntry(p) : null;
+        } while (p != null && e == null);
+        return e;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> range(K from, K to) {
+        return new SkipListIterator(ceilingNode(from), to);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return range(null, null);
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // schwach konsistent: läuft auf Ebene 0 und überspringt gelöschte Knoten
+    private class SkipListIterator implements Iterator<Entry<K, V>> {
+        private final K to;
+        private Entry<K, V> next;
+        private Node<K> p;
+
+        private SkipListIterator(Node<K> start, K to) {
+            this.to = to;
+            this.p = start;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && p != null) {
+                if (to != null && cmp.compare(p.key, to) >= 0) {
+                    p = null;
+                    return;
+                }
+                next = toEntry(p);
+                p = successor(p, 0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null)
+                throw new NoSuchElementException();
+            Entry<K, V> e = next;
+            advance();
+            return e;
+        }
+    }
+}
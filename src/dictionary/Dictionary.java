@@ -3,7 +3,12 @@
 
 package dictionary;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Collection of entries.
@@ -42,6 +47,42 @@ public interface Dictionary<K,V> extends Iterable<Dictionary.Entry<K,V>> {
 	 */
 	V remove(K key);
 
+	/**
+	 * Inserts all given entries, as if insert were called for each entry in iteration order
+	 * (for duplicate keys the last entry wins).
+	 * Implementations may override this to process the batch at once.
+	 * @param entries the entries to be inserted.
+	 */
+	default void insertAll(Collection<? extends Entry<? extends K, ? extends V>> entries) {
+		for (Entry<? extends K, ? extends V> e : entries)
+			insert(e.getKey(), e.getValue());
+	}
+
+	/**
+	 * Searches all given keys; results[i] is set to the value of keys[i] (or null).
+	 * @param keys the keys to be searched.
+	 * @param results array receiving the values; must be at least as long as keys.
+	 * @throws IllegalArgumentException if results is shorter than keys.
+	 */
+	default void searchAll(K[] keys, V[] results) {
+		if (results.length < keys.length)
+			throw new IllegalArgumentException("results is shorter than keys");
+		for (int i = 0; i < keys.length; i++)
+			results[i] = search(keys[i]);
+	}
+
+	/**
+	 * Removes the entries of all given keys.
+	 * @param keys the keys to be removed.
+	 * @return the number of entries removed.
+	 */
+	default int removeAll(Collection<? extends K> keys) {
+		int before = size();
+		for (K key : keys)
+			remove(key);
+		return before - size();
+	}
+
 	/**
 	 * Returns the number of elements in this dictionary.
 	 * @return the number of elements in this dictionary.
@@ -57,6 +98,34 @@ public interface Dictionary<K,V> extends Iterable<Dictionary.Entry<K,V>> {
 	 */
 	@Override
 	public Iterator<Entry<K, V>> iterator();
+
+	/**
+	 * Returns a spliterator over the entries in this dictionary.
+	 * The default implementation wraps the iterator and splits by copying batches;
+	 * implementations should override it to split their own structure.
+	 * @return a Spliterator over the entries in this dictionary
+	 */
+	@Override
+	default Spliterator<Entry<K, V>> spliterator() {
+		return Spliterators.spliterator(iterator(), size(), Spliterator.NONNULL);
+	}
+
+	/**
+	 * Returns a sequential stream over the entries in this dictionary.
+	 * @return a sequential Stream over the entries in this dictionary
+	 */
+	default Stream<Entry<K, V>> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a possibly parallel stream over the entries in this dictionary.
+	 * The dictionary must not be modified while the stream is processed.
+	 * @return a possibly parallel Stream over the entries in this dictionary
+	 */
+	default Stream<Entry<K, V>> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
 	
 	/**
 	 * A dictionary entry (key-value pair).
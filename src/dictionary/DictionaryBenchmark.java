@@ -0,0 +1,243 @@
+package dictionary;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Micro benchmark for all Dictionary implementations.
+ * <p>
+ * Measures insert, successful search, unsuccessful search, remove and iteration
+ * for several sizes and key distributions. Every combination first runs warmup
+ * iterations (not reported) for at least WARMUP_TIME, then measured iterations for at least
+ * MEASURE_TIME; the dictionary under test is rebuilt outside of the timed region before
+ * every iteration. Reported are throughput, average latency per operation and
+ * allocated bytes per operation.
+ * <p>
+ * Like JMH, each implementation is measured in a forked JVM, so the JIT profile
+ * of one implementation does not slow down the next.
+ * <p>
+ * Usage: {@code java dictionary.DictionaryBenchmark [name-filter [size ...]]}
+ */
+public class DictionaryBenchmark {
+    private static final long WARMUP_TIME = 500_000_000L; // ns
+    private static final long MEASURE_TIME = 1_000_000_000L; // ns
+    private static final int[] SIZES = {1_000, 16_000, 100_000};
+    private static final String WORD_FILE = "src/dictionary/dtengl.txt";
+    private static final String FORK_FLAG = "--fork";
+
+    private enum Operation {
+        INSERT(false), SEARCH_HIT(true), SEARCH_MISS(true), REMOVE(true), ITERATE(true);
+
+        private final boolean prefilled;
+
+        Operation(boolean prefilled) {
+            this.prefilled = prefilled;
+        }
+    }
+
+    private static final Map<String, Supplier<Dictionary<String, String>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("SortedArrayDictionary", SortedArrayDictionary::new);
+        IMPLEMENTATIONS.put("HashDictionary", () -> new HashDictionary<>(3));
+        IMPLEMENTATIONS.put("BinaryTreeDictionary", BinaryTreeDictionary::new);
+        IMPLEMENTATIONS.put("OpenHashDictionary", OpenHashDictionary::new);
+        IMPLEMENTATIONS.put("ByteArenaDictionary", ByteArenaDictionary::new);
+        IMPLEMENTATIONS.put("RadixTreeDictionary", RadixTreeDictionary::new);
+        IMPLEMENTATIONS.put("BPlusTreeDictionary", BPlusTreeDictionary::new);
+        IMPLEMENTATIONS.put("BlockedSortedArrayDict", BlockedSortedArrayDictionary::new);
+        IMPLEMENTATIONS.put("ConcurrentSkipListDict", ConcurrentSkipListDictionary::new);
+    }
+
+    // verhindert, dass der JIT Ergebnisse wegoptimiert
+    private static volatile int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals(FORK_FLAG)) {
+            runFork(args[1], Arrays.copyOfRange(args, 2, args.length));
+            return;
+        }
+        String filter = (args.length > 0) ? args[0].toLowerCase() : "";
+        String[] sizes = (args.length > 1) ? Arrays.copyOfRange(args, 1, args.length) : sizeArgs(SIZES);
+
+        System.out.printf("%-22s %-10s %8s %-12s %14s %12s %10s%n",
+                "Dictionary", "Keys", "Size", "Operation", "ops/s", "ns/op", "B/op");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (String name : IMPLEMENTATIONS.keySet()) {
+            if (!name.toLowerCase().contains(filter))
+                continue;
+            List<String> cmd = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+                    DictionaryBenchmark.class.getName(), FORK_FLAG, name));
+            cmd.addAll(List.of(sizes));
+            int exit = new ProcessBuilder(cmd).inheritIO().start().waitFor();
+            if (exit != 0)
+                System.out.println(name + ": fork failed with exit code " + exit);
+        }
+    }
+
+    private static String[] sizeArgs(int[] sizes) {
+        String[] r = new String[sizes.length];
+        for (int i = 0; i < sizes.length; i++)
+            r[i] = Integer.toString(sizes[i]);
+        return r;
+    }
+
+    // läuft im geforkten Prozess: alle Messungen für eine Implementierung
+    private static void runFork(String name, String[] sizes) throws IOException {
+        Supplier<Dictionary<String, String>> factory = IMPLEMENTATIONS.get(name);
+        List<String> words = Files.readAllLines(Paths.get(WORD_FILE));
+        for (String distribution : new String[]{"words", "sequential", "random"}) {
+            for (String sizeArg : sizes) {
+                int size = Integer.parseInt(sizeArg);
+                String[] keys = keys(distribution, size, words);
+                String[] misses = new String[size];
+                for (int i = 0; i < size; i++)
+                    misses[i] = keys[i] + "#";
+                String[] sortedKeys = keys.clone();
+                Arrays.sort(sortedKeys);
+
+                for (Operation op : Operation.values()) {
+                    Result r = measure(factory, op, keys, sortedKeys, misses);
+                    System.out.printf("%-22s %-10s %8d %-12s %14.0f %12.1f %10.1f%n",
+                            name, distribution, size, op, r.opsPerSecond(), r.nanosPerOp(), r.bytesPerOp());
+                }
+            }
+        }
+    }
+
+    // Schlüsselverteilungen: Wörter aus dtengl.txt (bei Bedarf mit Zähler verlängert),
+    // aufsteigende Schlüssel und zufällige Strings
+    private static String[] keys(String distribution, int size, List<String> lines) {
+        String[] keys = new String[size];
+        switch (distribution) {
+            case "words":
+                Set<String> words = new LinkedHashSet<>();
+                for (String line : lines)
+                    words.add(line.substring(0, line.indexOf(' ')));
+                String[] w = words.toArray(new String[0]);
+                for (int i = 0; i < size; i++)
+                    keys[i] = (i < w.length) ? w[i] : w[i % w.length] + (i / w.length);
+                break;
+            case "sequential":
+                for (int i = 0; i < size; i++)
+                    keys[i] = String.format("key%08d", i);
+                break;
+            default:
+                Random rnd = new Random(42);
+                Set<String> set = new LinkedHashSet<>();
+                while (set.size() < size) {
+                    char[] c = new char[8 + rnd.nextInt(5)];
+                    for (int j = 0; j < c.length; j++)
+                        c[j] = (char) ('a' + rnd.nextInt(26));
+                    set.add(new String(c));
+                }
+                set.toArray(keys);
+        }
+        return keys;
+    }
+
+    private static class Result {
+        private final long nanos;
+        private final long bytes;
+        private final long ops;
+
+        private Result(long nanos, long bytes, long ops) {
+            this.nanos = nanos;
+            this.bytes = bytes;
+            this.ops = ops;
+        }
+
+        private double opsPerSecond() {
+            return ops * 1e9 / nanos;
+        }
+
+        private double nanosPerOp() {
+            return (double) nanos / ops;
+        }
+
+        private double bytesPerOp() {
+            return (bytes < 0) ? Double.NaN : (double) bytes / ops;
+        }
+    }
+
+    private static Result measure(Supplier<Dictionary<String, String>> factory, Operation op,
+                                  String[] keys, String[] sortedKeys, String[] misses) {
+        long nanos = 0;
+        long bytes = 0;
+        long ops = 0;
+        long warmupNanos = 0;
+        boolean warmup = true;
+        while (warmup || nanos < MEASURE_TIME) {
+            Dictionary<String, String> dict = factory.get();
+            if (op.prefilled) {
+                // aufsteigend einfügen: für SortedArrayDictionary ohne Verschieben
+                for (String k : sortedKeys)
+                    dict.insert(k, k);
+            }
+            long startBytes = allocatedBytes();
+            long startTime = System.nanoTime();
+            long n = run(dict, op, keys, misses);
+            long endTime = System.nanoTime();
+            long endBytes = allocatedBytes();
+            if (warmup) {
+                warmupNanos += endTime - startTime;
+                warmup = warmupNanos < WARMUP_TIME;
+            } else {
+                nanos += endTime - startTime;
+                bytes = (startBytes < 0 || bytes < 0) ? -1 : bytes + endBytes - startBytes;
+                ops += n;
+            }
+        }
+        return new Result(nanos, bytes, ops);
+    }
+
+    private static long run(Dictionary<String, String> dict, Operation op, String[] keys, String[] misses) {
+        int h = 0;
+        switch (op) {
+            case INSERT:
+                for (String k : keys)
+                    dict.insert(k, k);
+                break;
+            case SEARCH_HIT:
+                for (String k : keys)
+                    h += dict.search(k).length();
+                break;
+            case SEARCH_MISS:
+                for (String k : misses)
+                    h += (dict.search(k) == null) ? 1 : 0;
+                break;
+            case REMOVE:
+                for (String k : keys)
+                    h += dict.remove(k).length();
+                break;
+            case ITERATE:
+                for (Dictionary.Entry<String, String> e : dict)
+                    h += e.getKey().length();
+                break;
+        }
+        sink += h;
+        return keys.length;
+    }
+
+    // von diesem Thread bisher allokierte Bytes, -1 falls die JVM das nicht unterstützt
+    private static long allocatedBytes() {
+        var bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            var sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported())
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
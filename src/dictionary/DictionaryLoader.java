@@ -0,0 +1,157 @@
+package dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel loader for dictionary text files with lines of the form "key value".
+ * <p>
+ * The file is memory-mapped and split into chunks at line boundaries, which are
+ * parsed in parallel on a ForkJoinPool by scanning the bytes for blanks and line ends
+ * (no regular expressions, no intermediate line Strings). The entries are then fed
+ * into the dictionary in file order with insertAll, so later lines win for duplicate keys.
+ * <p>
+ * Like {@code split(" ")} in TUI, the value is the second blank-separated word;
+ * lines without a value are skipped. Files are limited to 2 GB.
+ */
+public class DictionaryLoader {
+    private static final int MIN_CHUNK = 1 << 16; // ab hier nicht weiter aufteilen
+
+    /**
+     * Loads all entries of file into dict using the common ForkJoinPool.
+     * @param file the text file.
+     * @param dict the dictionary to be filled.
+     * @return number of entries loaded.
+     * @throws IOException if the file cannot be read.
+     */
+    public static long load(Path file, Dictionary<String, String> dict) throws IOException {
+        return load(file, dict, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads all entries of file into dict, parsing on the given pool.
+     * @param file the text file.
+     * @param dict the dictionary to be filled.
+     * @param pool the pool used for parsing.
+     * @return number of entries loaded.
+     * @throws IOException if the file cannot be read.
+     */
+    public static long load(Path file, Dictionary<String, String> dict, ForkJoinPool pool) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE)
+                throw new IOException("file exceeds 2 GB");
+            buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        List<Dictionary.Entry<String, String>> entries = pool.invoke(new ParseTask(buf, 0, buf.capacity()));
+        dict.insertAll(entries);
+        return entries.size();
+    }
+
+    // zerlegt [from, to) an Zeilengrenzen und parst die Teile parallel
+    @SuppressWarnings("serial") // wird nie serialisiert
+    private static class ParseTask extends RecursiveTask<List<Dictionary.Entry<String, String>>> {
+        private final MappedByteBuffer buf;
+        private final int from;
+        private final int to;
+
+        private ParseTask(MappedByteBuffer buf, int from, int to) {
+            this.buf = buf;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Dictionary.Entry<String, String>> compute() {
+            if (to - from > 2 * MIN_CHUNK) {
+                int mid = from + (to - from) / 2;
+                while (mid < to && buf.get(mid - 1) != '\n')
+                    mid++; // Teilung direkt hinter einem Zeilenende
+                if (mid < to) {
+                    ParseTask left = new ParseTask(buf, from, mid);
+                    left.fork();
+                    List<Dictionary.Entry<String, String>> right = new ParseTask(buf, mid, to).compute();
+                    List<Dictionary.Entry<String, String>> result = left.join();
+                    result.addAll(right);
+                    return result;
+                }
+            }
+            return parse();
+        }
+
+        private List<Dictionary.Entry<String, String>> parse() {
+            byte[] b = new byte[to - from];
+            buf.get(from, b);
+            List<Dictionary.Entry<String, String>> entries = new ArrayList<>(b.length / 20);
+            int i = 0;
+            while (i < b.length) {
+                int keyStart = i;
+                while (i < b.length && b[i] != ' ' && b[i] != '\n' && b[i] != '\r')
+                    i++;
+                int keyEnd = i;
+                int valueStart = -1;
+                int valueEnd = -1;
+                if (i < b.length && b[i] == ' ') {
+                    valueStart = ++i;
+                    while (i < b.length && b[i] != ' ' && b[i] != '\n' && b[i] != '\r')
+                        i++;
+                    valueEnd = i;
+                }
+                while (i < b.length && b[i] != '\n')
+                    i++; // Rest der Zeile überspringen
+                i++;
+                if (keyEnd > keyStart && valueEnd > valueStart)
+                    entries.add(new Dictionary.Entry<>(
+                            new String(b, keyStart, keyEnd - keyStart, StandardCharsets.UTF_8),
+                            new String(b, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8)));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Loads a file into a HashDictionary and reports the throughput in lines/sec,
+     * compared with sequential reading via BufferedReader and split.
+     * @param args optional file name (default: dtengl.txt) and number of runs.
+     * @throws IOException if the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get((args.length > 0) ? args[0] : "src/dictionary/dtengl.txt");
+        int runs = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+        for (int r = 0; r < runs; r++) {
+            long startTime = System.nanoTime();
+            long lines = load(file, new HashDictionary<>(3));
+            long parallelTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            Dictionary<String, String> dict = new HashDictionary<>(3);
+            long sequentialLines = 0;
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] words = line.split(" ");
+                    dict.insert(words[0], words[1]);
+                    sequentialLines++;
+                }
+            }
+            long sequentialTime = System.nanoTime() - startTime;
+            if (r == runs - 1) {
+                System.out.printf("DictionaryLoader: %d Zeilen in %.1f ms = %.0f Zeilen/s%n",
+                        lines, parallelTime / 1e6, lines * 1e9 / parallelTime);
+                System.out.printf("BufferedReader + split: %d Zeilen in %.1f ms = %.0f Zeilen/s%n",
+                        sequentialLines, sequentialTime / 1e6, sequentialLines * 1e9 / sequentialTime);
+            }
+        }
+    }
+}
@@ -6,6 +6,15 @@
  */
 package dictionary;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
 /**
  * Static test methods for different Dictionary implementations.
  * @author oliverbittel
@@ -20,6 +29,35 @@ public class DictionaryTest {
 		//testSortedArrayDictionary();
 		//testHashDictionary();
 		testBinaryTreeDictionary();
+		testOpenHashDictionary();
+		testConcurrentHashDictionary();
+		testPersistentBinaryTreeDictionary();
+		testByteArenaDictionary();
+		testMappedDictionary();
+		testCachingDictionary();
+		testStreams(new HashDictionary<>(3));
+		testStreams(new SortedArrayDictionary<>());
+		testSortedSpliterator();
+		testStreams(new BinaryTreeDictionary<>());
+		testStreams(new OpenHashDictionary<>());
+		testStreams(new ConcurrentHashDictionary<>());
+		testStreams(new PersistentBinaryTreeDictionary<>());
+		testHashFlooding();
+		testHashCapacity();
+		testIteratorRemove(new HashDictionary<>(3));
+		testIteratorRemove(new SortedArrayDictionary<>());
+		testBatch(new HashDictionary<>(3));
+		testBatch(new SortedArrayDictionary<>());
+		testBatch(new BinaryTreeDictionary<>());
+		testRadixTreeDictionary();
+		testSortedDict(new SortedArrayDictionary<>());
+		testSortedDict(new BinaryTreeDictionary<>());
+		testDict(new BPlusTreeDictionary<>());
+		testSortedDict(new BPlusTreeDictionary<>());
+		testDict(new BlockedSortedArrayDictionary<>());
+		testSortedDict(new BlockedSortedArrayDictionary<>());
+		testSortedDict(new BlockedSortedArrayDictionary<>(String.CASE_INSENSITIVE_ORDER));
+		testConcurrentSkipListDictionary();
 	}
 
 	private static void testSortedArrayDictionary() {
@@ -32,6 +70,429 @@ public class DictionaryTest {
 		testDict(dict);
 	}
 	
+	private static void testOpenHashDictionary() {
+		Dictionary<String, String> dict = new OpenHashDictionary<>();
+		testDict(dict);
+	}
+	
+	private static void testConcurrentHashDictionary() {
+		Dictionary<String, String> dict = new ConcurrentHashDictionary<>();
+		testDict(dict);
+
+		// 4 Threads fügen gleichzeitig je 10000 verschiedene Schlüssel ein
+		Dictionary<Integer, Integer> cdict = new ConcurrentHashDictionary<>(4);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int offset = t * 10000;
+			threads[t] = new Thread(() -> {
+				for (int i = offset; i < offset + 10000; i++)
+					cdict.insert(i, i);
+			});
+			threads[t].start();
+		}
+		for (Thread t : threads) {
+			try {
+				t.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		System.out.println(cdict.size() == 40000);					// true
+		System.out.println(cdict.search(12345) == 12345);			// true
+	}
+	
+	private static void testConcurrentSkipListDictionary() {
+		testDict(new ConcurrentSkipListDictionary<>());
+		testSortedDict(new ConcurrentSkipListDictionary<>());
+		testStreams(new ConcurrentSkipListDictionary<>());
+
+		// 4 Threads fügen gleichzeitig je 10000 Schlüssel ein und löschen jeden zweiten wieder
+		SortedDictionary<Integer, Integer> cdict = new ConcurrentSkipListDictionary<>();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int offset = t;
+			threads[t] = new Thread(() -> {
+				for (int i = offset; i < 40000; i += 4)
+					cdict.insert(i, i);
+				for (int i = offset; i < 40000; i += 8)
+					cdict.remove(i);
+			});
+			threads[t].start();
+		}
+		for (Thread t : threads) {
+			try {
+				t.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		System.out.println(cdict.size() == 20000);					// true
+		System.out.println(cdict.search(12348) == 12348);			// true
+		System.out.println(cdict.search(12344) == null);			// true
+		int prev = -1;
+		boolean sorted = true;
+		for (Dictionary.Entry<Integer, Integer> e : cdict) {
+			sorted &= e.getKey() > prev && e.getKey() % 8 >= 4;
+			prev = e.getKey();
+		}
+		System.out.println(sorted);									// true
+	}
+
+	private static void testPersistentBinaryTreeDictionary() {
+		Dictionary<String, String> dict = new PersistentBinaryTreeDictionary<>();
+		testDict(dict);
+
+		PersistentBinaryTreeDictionary<Integer, Integer> pdict = new PersistentBinaryTreeDictionary<>();
+		for (int i = 0; i < 100; i++)
+			pdict.insert(i, i);
+		Dictionary<Integer, Integer> snap = pdict.snapshot();
+		pdict.remove(50);
+		pdict.insert(200, 200);
+		System.out.println(snap.size() == 100 && pdict.size() == 100);	// true
+		System.out.println(snap.search(50) == 50);						// true
+		System.out.println(pdict.search(50) == null);					// true
+		System.out.println(snap.search(200) == null);					// true
+	}
+	
+	private static void testByteArenaDictionary() {
+		testDict(new ByteArenaDictionary());
+		testDict(new ByteArenaDictionary(100, true)); // Arena off-heap
+	}
+	
+	private static void testMappedDictionary() {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test " + MappedDictionary.class);
+		try {
+			Dictionary<String, String> dict = new HashDictionary<>(3);
+			dict.insert("gehen", "go");
+			dict.insert("lesen", "read");
+			dict.insert("über", "over");
+			dict.insert("nichts", null);
+			Path file = Files.createTempFile("dict", ".bin");
+			file.toFile().deleteOnExit(); // gemappte Dateien lassen sich unter Windows nicht sofort löschen
+			MappedDictionary.write(dict, file);
+			Dictionary<String, String> mapped = MappedDictionary.open(file);
+			System.out.println(mapped.size() == 4);						// true
+			System.out.println(mapped.search("lesen").equals("read"));	// true
+			System.out.println(mapped.search("über").equals("over"));	// true
+			System.out.println(mapped.search("nichts") == null);		// true
+			System.out.println(mapped.search("schreiben") == null);		// true
+			for (Dictionary.Entry<String, String> e : mapped)
+				System.out.println(e.getKey() + ": " + e.getValue());
+		} catch (IOException e) {
+			System.out.println(e);
+		}
+	}
+	
+	private static void testCachingDictionary() {
+		testDict(new CachingDictionary<>(new HashDictionary<>(3), 1000, CachingDictionary.Policy.LRU));
+		testDict(new CachingDictionary<>(new HashDictionary<>(3), 1000, CachingDictionary.Policy.TINY_LFU));
+
+		Dictionary<Integer, Integer> backing = new HashDictionary<>(3);
+		CachingDictionary<Integer, Integer> lru = new CachingDictionary<>(backing, 3, CachingDictionary.Policy.LRU);
+		lru.insert(1, 1);
+		lru.insert(2, 2);
+		lru.insert(3, 3);
+		lru.search(1);
+		lru.insert(4, 4); // verdrängt 2 aus dem Cache
+		System.out.println(lru.cachedCount() == 3 && lru.evictionCount() == 1);	// true
+		System.out.println(lru.size() == 4 && backing.search(2) == 2);			// true
+		System.out.println(lru.search(2) == 2);									// true
+		System.out.println(lru.hitCount() == 1 && lru.missCount() == 1);		// true
+		lru.remove(4);
+		System.out.println(backing.search(4) == null && lru.search(4) == null);	// true
+
+		// vorhandenes Dictionary dekorieren
+		Dictionary<Integer, Integer> filled = new BinaryTreeDictionary<>();
+		for (int i = 0; i < 100; i++)
+			filled.insert(i, i);
+		CachingDictionary<Integer, Integer> front = new CachingDictionary<>(filled, 10, CachingDictionary.Policy.LRU);
+		front.search(42);
+		front.search(42);
+		System.out.println(front.size() == 100 && front.cachedCount() == 1 && front.hitCount() == 1);	// true
+
+		// häufig gesuchte Schlüssel überstehen einen Scan über viele neue Schlüssel
+		CachingDictionary<Integer, Integer> lfu = new CachingDictionary<>(new HashDictionary<>(3), 100, CachingDictionary.Policy.TINY_LFU);
+		for (int r = 0; r < 5; r++)
+			for (int i = 0; i < 50; i++)
+				if (lfu.search(i) == null)
+					lfu.insert(i, i);
+		for (int i = 1000; i < 5000; i++)
+			lfu.insert(i, i);
+		long hitsBefore = lfu.hitCount();
+		for (int i = 0; i < 50; i++)
+			lfu.search(i);
+		long hot = lfu.hitCount() - hitsBefore;
+		System.out.println(lfu.cachedCount() == 100 && hot >= 45);				// true
+
+		// Begrenzung über das Gewicht: Länge der Werte
+		CachingDictionary<String, String> weighted = new CachingDictionary<>(new HashDictionary<>(3), 10, String::length, CachingDictionary.Policy.LRU);
+		weighted.insert("a", "12345");
+		weighted.insert("b", "12345");
+		weighted.insert("c", "123");
+		System.out.println(weighted.weight() <= 10 && weighted.cachedCount() == 2);	// true
+		System.out.println(weighted.search("a").equals("12345") && weighted.missCount() == 1);	// true
+	}
+	
+	private static void testStreams(Dictionary<Integer, Integer> dict) {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test streams " + dict.getClass());
+		for (int i = 0; i < 10000; i++)
+			dict.insert(i, 2 * i);
+		System.out.println(dict.stream().count() == 10000);									// true
+		System.out.println(dict.parallelStream().mapToLong(Dictionary.Entry::getKey).sum() == 49995000L);	// true
+		System.out.println(dict.parallelStream().filter(e -> e.getValue() != 2 * e.getKey()).count() == 0);	// true
+		List<Integer> keys = dict.parallelStream().map(Dictionary.Entry::getKey).sorted().toList();
+		System.out.println(keys.size() == 10000 && keys.get(9999) == 9999);					// true
+	}
+	
+	private static void testHashFlooding() {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test hash flooding");
+		// "Aa" und "BB" haben denselben hashCode, also auch alle 2^12 Kombinationen daraus
+		List<String> keys = new ArrayList<>();
+		keys.add("");
+		for (int i = 0; i < 12; i++) {
+			List<String> next = new ArrayList<>();
+			for (String k : keys) {
+				next.add(k + "Aa");
+				next.add(k + "BB");
+			}
+			keys = next;
+		}
+		Dictionary<Object, Integer> dict = new HashDictionary<>(3);
+		for (int i = 0; i < keys.size(); i++)
+			dict.insert(keys.get(i), i);
+		boolean found = true;
+		for (int i = 0; i < keys.size(); i++)
+			found &= dict.search(keys.get(i)) == i;
+		System.out.println(found && dict.size() == 4096);							// true
+		System.out.println(dict.search("AaAa") == null);							// true
+
+		// Schlüssel anderer Klasse mit gleichem hashCode im selben Bucket
+		Object other = new Object() {
+			@Override
+			public int hashCode() {
+				return "AaAa".hashCode();
+			}
+		};
+		dict.insert(other, -1);
+		dict.insert(Integer.MIN_VALUE, -2);
+		System.out.println(dict.search(other) == -1 && dict.search(Integer.MIN_VALUE) == -2);	// true
+		for (int i = 0; i < keys.size(); i += 2)
+			dict.remove(keys.get(i));
+		found = true;
+		for (int i = 0; i < keys.size(); i++)
+			found &= (dict.search(keys.get(i)) == null) == (i % 2 == 0);
+		System.out.println(found && dict.size() == 2050);							// true
+
+		// compareTo passt nicht zu equals: alle Schlüssel gleich lang, aber verschieden
+		Dictionary<TieKey, Integer> ties = new HashDictionary<>(3);
+		for (int i = 0; i < 20; i++)
+			ties.insert(new TieKey(i), i);
+		int n = 0;
+		for (Dictionary.Entry<TieKey, Integer> e : ties)
+			n++;
+		found = true;
+		for (int i = 0; i < 20; i++)
+			found &= ties.search(new TieKey(i)) == i;
+		System.out.println(ties.size() == 20 && n == 20 && found);				// true
+		for (int i = 0; i < 20; i += 2)
+			ties.remove(new TieKey(i));
+		System.out.println(ties.size() == 10 && ties.search(new TieKey(2)) == null
+				&& ties.search(new TieKey(3)) == 3);								// true
+	}
+
+	// gleicher hashCode, compareTo immer 0, aber equals nur bei gleicher id
+	private static final class TieKey implements Comparable<TieKey> {
+		private final int id;
+
+		private TieKey(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof TieKey && ((TieKey) o).id == id;
+		}
+
+		@Override
+		public int compareTo(TieKey o) {
+			return 0;
+		}
+	}
+	
+	private static void testHashCapacity() {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test hash capacity");
+		HashDictionary<Integer, Integer> dict = HashDictionary.<Integer, Integer>builder()
+				.expectedSize(10000).loadFactor(0.75f).shrinkOnRemove(true).build();
+		int cap = dict.capacity();
+		for (int i = 0; i < 10000; i++)
+			dict.insert(i, i);
+		System.out.println(dict.capacity() == cap && cap >= 10000 / 0.75f);		// true
+		int limit = (int) (cap * 0.75f) + 1; // so viele passen ohne Wachsen
+		for (int i = 10000; i < limit; i++)
+			dict.insert(i, i);
+		System.out.println(dict.capacity() == cap);								// true
+		dict.insert(limit, limit);
+		System.out.println(dict.capacity() > cap);								// true
+
+		// Schrumpfen beim Löschen, aber nicht unter die Anfangskapazität
+		for (int i = 0; i <= limit; i++)
+			dict.remove(i);
+		System.out.println(dict.capacity() == cap && dict.size() == 0);			// true
+
+		HashDictionary<Integer, Integer> big = new HashDictionary<>(3);
+		for (int i = 0; i < 10000; i++)
+			big.insert(i, i);
+		for (int i = 0; i < 10000; i += 100)
+			big.remove(i + 1);
+		int before = big.capacity();
+		for (int i = 100; i < 10000; i++)
+			big.remove(i);
+		big.trimToSize();
+		System.out.println(big.capacity() < before && big.capacity() * 2.0f >= big.size());	// true
+		boolean found = true;
+		for (int i = 0; i < 100; i++)
+			found &= big.search(i) == (i == 1 ? null : i);
+		System.out.println(found && big.size() == 99);							// true
+
+		try {
+			HashDictionary.builder().loadFactor(0);
+			System.out.println(false);
+		} catch (IllegalArgumentException e) {
+			System.out.println(true);											// true
+		}
+	}
+	
+	private static void testSortedSpliterator() {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test sorted spliterator");
+		SortedArrayDictionary<String, String> dict = new SortedArrayDictionary<>(String.CASE_INSENSITIVE_ORDER);
+		dict.insert("b", "2");
+		dict.insert("C", "3");
+		dict.insert("a", "1");
+		Spliterator<Dictionary.Entry<String, String>> sp = dict.spliterator();
+		System.out.println(sp.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL)
+				&& !sp.hasCharacteristics(Spliterator.IMMUTABLE));						// true
+		System.out.println(sp.getComparator().compare(dict.first(), dict.last()) < 0);	// true
+		System.out.println(dict.stream().map(Dictionary.Entry::getKey).sorted(String.CASE_INSENSITIVE_ORDER)
+				.toList().equals(List.of("a", "b", "C")));									// true
+		sp.tryAdvance(e -> { });
+		dict.insert("d", "4");
+		try {
+			sp.tryAdvance(e -> { });
+			System.out.println(false);
+		} catch (ConcurrentModificationException e) {
+			System.out.println(true);													// true
+		}
+		testSpliteratorResize(new HashDictionary<>(3));
+		testSpliteratorResize(new BinaryTreeDictionary<>());
+	}
+
+	// Einfügen während der Traversierung (bei HashDictionary mit Vergrößerung der Tabelle)
+	private static void testSpliteratorResize(Dictionary<Integer, Integer> dict) {
+		System.out.println("test spliterator resize " + dict.getClass());
+		for (int i = 0; i < 20; i++)
+			dict.insert(i, i);
+		Spliterator<Dictionary.Entry<Integer, Integer>> sp = dict.spliterator();
+		sp.tryAdvance(e -> { });
+		for (int i = 20; i < 120; i++)
+			dict.insert(i, i);
+		try {
+			sp.tryAdvance(e -> { });
+			System.out.println(false);
+		} catch (ConcurrentModificationException e) {
+			System.out.println(true);													// true
+		}
+		sp = dict.spliterator();
+		sp.tryAdvance(e -> { });
+		try {
+			sp.forEachRemaining(e -> dict.insert(-1, 0));
+			System.out.println(false);
+		} catch (ConcurrentModificationException e) {
+			System.out.println(true);													// true
+		}
+	}
+	
+	private static void testIteratorRemove(Dictionary<Integer, Integer> dict) {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test iterator remove " + dict.getClass());
+		for (int i = 0; i < 1000; i++)
+			dict.insert(i, i);
+		Iterator<Dictionary.Entry<Integer, Integer>> it = dict.iterator();
+		while (it.hasNext()) {
+			if (it.next().getKey() % 2 == 0)
+				it.remove();
+		}
+		System.out.println(dict.size() == 500);									// true
+		System.out.println(dict.search(10) == null && dict.search(11) == 11);	// true
+		int n = 0;
+		for (Dictionary.Entry<Integer, Integer> e : dict)
+			n++;
+		System.out.println(n == 500);											// true
+
+		it = dict.iterator();
+		it.next();
+		dict.insert(-1, -1);
+		try {
+			it.next();
+			System.out.println(false);
+		} catch (ConcurrentModificationException e) {
+			System.out.println(true);											// true
+		}
+	}
+	
+	private static void testBatch(Dictionary<String, String> dict) {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test batch " + dict.getClass());
+		dict.insert("gehen", "go");
+		List<Dictionary.Entry<String, String>> entries = new ArrayList<>();
+		entries.add(new Dictionary.Entry<>("lesen", "read"));
+		entries.add(new Dictionary.Entry<>("gehen", "walk"));
+		entries.add(new Dictionary.Entry<>("schreiben", "write"));
+		entries.add(new Dictionary.Entry<>("lesen", "study")); // letzter Eintrag gewinnt
+		dict.insertAll(entries);
+		System.out.println(dict.size() == 3);											// true
+
+		String[] keys = {"schreiben", "fahren", "gehen", "lesen"};
+		String[] results = new String[keys.length];
+		dict.searchAll(keys, results);
+		System.out.println(results[0].equals("write") && results[1] == null);			// true
+		System.out.println(results[2].equals("walk") && results[3].equals("study"));	// true
+
+		System.out.println(dict.removeAll(List.of("gehen", "fahren", "lesen")) == 2);	// true
+		System.out.println(dict.size() == 1 && dict.search("schreiben").equals("write"));	// true
+	}
+	
+	private static void testRadixTreeDictionary() {
+		testDict(new RadixTreeDictionary<>());
+
+		RadixTreeDictionary<String> dict = new RadixTreeDictionary<>();
+		dict.insert("lesen", "read");
+		dict.insert("lesbar", "readable");
+		dict.insert("lese", "vintage");
+		dict.insert("laufen", "run");
+		dict.insert("les", null);
+		System.out.println(dict.autocomplete("les", 10).equals(List.of("les", "lesbar", "lese", "lesen")));	// true
+		System.out.println(dict.autocomplete("le", 2).equals(List.of("les", "lesbar")));					// true
+		System.out.println(!dict.prefix("lesx").hasNext() && dict.search("le") == null);					// true
+		dict.remove("lese");
+		dict.remove("les");
+		System.out.println(dict.search("lesen").equals("read") && dict.size() == 3);						// true
+		var it = dict.prefix("lese");
+		while (it.hasNext()) {
+			var e = it.next();
+			System.out.println(e.getKey() + ": " + e.getValue());
+		}
+	}
+	
 	private static void testBinaryTreeDictionary() {
 		Dictionary<String, String> dict = new BinaryTreeDictionary<>();
 		testDict(dict);
@@ -76,6 +537,22 @@ public class DictionaryTest {
 		btd.remove(50);
         System.out.println("remove:");
         btd.prettyPrint();
+
+        // Test für fromSorted und merge
+        List<Dictionary.Entry<Integer, Integer>> sorted = new ArrayList<>();
+        for (int i = 1; i <= 7; i++)
+            sorted.add(new Dictionary.Entry<>(10 * i, i));
+        BinaryTreeDictionary<Integer, Integer> bulk = BinaryTreeDictionary.fromSorted(sorted);
+        System.out.println("fromSorted:");
+        bulk.prettyPrint();
+        BinaryTreeDictionary<Integer, Integer> other = new BinaryTreeDictionary<>();
+        other.insert(5, 0);
+        other.insert(40, 0);
+        other.insert(75, 0);
+        bulk.merge(other);
+        System.out.println("merge:");
+        bulk.prettyPrint();
+        System.out.println(bulk.size() == 9 && bulk.search(40) == 0);	// true
     }
 	
 	private static void testDict(Dictionary<String, String> dict) {
@@ -111,5 +588,29 @@ public class DictionaryTest {
 			System.out.println(e.getKey() + ": " + e.getValue() + " search: " + dict.search(e.getKey()));
 		}
 	}
-	
+
+	private static void testSortedDict(SortedDictionary<String, String> dict) {
+		System.out.println("===== New Test Case ========================");
+		System.out.println("test navigation " + dict.getClass());
+		System.out.println(dict.first() == null && dict.floor("x") == null);	// true
+		dict.insert("lesen", "read");
+		dict.insert("laufen", "run");
+		dict.insert("lachen", "laugh");
+		dict.insert("gehen", "go");
+		dict.insert("schreiben", "write");
+		System.out.println(dict.first().getKey().equals("gehen"));			// true
+		System.out.println(dict.last().getKey().equals("schreiben"));		// true
+		System.out.println(dict.floor("lb").getKey().equals("laufen"));		// true
+		System.out.println(dict.ceiling("lb").getKey().equals("lesen"));	// true
+		System.out.println(dict.floor("a") == null);						// true
+		System.out.println(dict.ceiling("z") == null);						// true
+		for (var it = SortedDictionary.prefix(dict, "la"); it.hasNext(); ) {
+			var e = it.next();
+			System.out.println(e.getKey() + ": " + e.getValue());			// lachen, laufen
+		}
+		for (var it = dict.range("h", "m"); it.hasNext(); ) {
+			var e = it.next();
+			System.out.println(e.getKey() + ": " + e.getValue());			// lachen, laufen, lesen
+		}
+	}
 }
@@ -1,18 +1,53 @@
 package dictionary;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 public class HashDictionary<K,V> implements Dictionary<K,V>{
-    private LinkedList<Entry<K, V>> tab[];
+    private Bucket<K, V> tab[];
     private int size;
-    private static final int LOAD_FACTOR = 2;
+    private int modCount; // strukturelle Änderungen, für fail-fast Iteratoren
+    private static final float DEFAULT_LOAD_FACTOR = 2.0f;
+    private final float loadFactor; // mittlere Listenlänge, ab der die Tabelle wächst
+    private final boolean shrinkOnRemove;
+    private final int minCap; // unter die Anfangskapazität wird beim Löschen nicht geschrumpft
 
-    // calculate the primes :)
-    private boolean isPrime(int number) {
-        for (int i = 2; i < number; ++i){
+    // Schutz gegen Hash-Flooding: hashCode wird mit einem zufälligen Seed je Instanz gemischt,
+    // damit gehäufte Schlüssel nicht auf wenige Buckets fallen. Gleiche hashCodes bleiben
+    // gleich; dagegen werden lange Buckets mit vergleichbaren Schlüsseln zu Bäumen.
+    private final int seed = ThreadLocalRandom.current().nextInt();
+    private static final int TREEIFY_THRESHOLD = 8; // ab mehr Einträgen Baum statt Liste
+    private static final int UNTREEIFY_THRESHOLD = 6; // ab so wenigen wieder Liste
+
+    // Inkrementelles Rehashing: solange oldTab != null, liegen die Buckets
+    // ab migrateIdx noch in der alten Tabelle und werden schrittweise verschoben.
+    private Bucket<K, V> oldTab[];
+    private int migrateIdx;
+    private final boolean incremental;
+    private static final int MIGRATE_STEPS = 4; // Buckets pro Operation
+
+    // Kapazitäten-Leiter: jeweils größte Primzahl unter 2^k (k = 2..30),
+    // damit beim Vergrößern keine Primzahl gesucht werden muss
+    private static final int[] PRIMES = {
+            3, 7, 13, 31, 61, 127, 251, 509, 1021, 2039, 4093, 8191, 16381, 32749,
+            65521, 131071, 262139, 524287, 1048573, 2097143, 4194301, 8388593,
+            16777213, 33554393, 67108859, 134217689, 268435399, 536870909, 1073741789
+    };
+
+    // calculate the primes :) - Probedivision nur bis zur Wurzel
+    private static boolean isPrime(int number) {
+        if(number < 2)
+            return false;
+        if(number % 2 == 0)
+            return number == 2;
+        for (int i = 3; (long) i * i <= number; i += 2){
             if(number % i == 0)
                 return false;
         }
@@ -21,91 +56,483 @@ public class HashDictionary<K,V> implements Dictionary<K,V>{
 
     // hash code holen
     private int extractHashCode(K key){
-        int adr = key.hashCode();
-        if(adr < 0)
-            adr = -adr;
-        return adr % tab.length;
+        return extractHashCode(key, tab.length);
+    }
+
+    private int extractHashCode(K key, int length){
+        int h = (key.hashCode() ^ seed) * 0x9E3779B9; // Fibonacci-Hashing: mischt alle Bits
+        h ^= h >>> 16;
+        return (h & 0x7fffffff) % length; // abs() wäre für Integer.MIN_VALUE negativ
+    }
+
+    // Kollisionsliste oder Baum; put nur für Schlüssel, die noch nicht enthalten sind
+    private interface Bucket<K, V> extends Iterable<Entry<K, V>> {
+        Entry<K, V> find(K key);
+        void put(Entry<K, V> entry);
+        Entry<K, V> removeKey(K key);
+        int size();
+        boolean isEmpty();
+    }
+
+    private static final class ListBucket<K, V> extends LinkedList<Entry<K, V>> implements Bucket<K, V> {
+        private static final long serialVersionUID = 1L;
+        private boolean treeifiable = true; // false: Umwandlung in einen Baum ist gescheitert
+
+        private ListBucket(){
+        }
+
+        private ListBucket(Bucket<K, V> bucket){
+            for(var entry : bucket)
+                add(entry);
+        }
+
+        @Override
+        public Entry<K, V> find(K key){
+            for(var entry : this){
+                if(entry.getKey().equals(key))
+                    return entry;
+            }
+            return null;
+        }
+
+        @Override
+        public void put(Entry<K, V> entry){
+            add(entry);
+        }
+
+        // Löschen mit nur einem Durchlauf; der Listen-Iterator entfernt den Knoten in O(1)
+        @Override
+        public Entry<K, V> removeKey(K key){
+            Iterator<Entry<K, V>> it = iterator();
+            while(it.hasNext()){
+                Entry<K, V> entry = it.next();
+                if(entry.getKey().equals(key)){
+                    it.remove();
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Baum für Schlüssel einer Klasse, die Comparable implementiert: sortiert nach hashCode,
+    // bei Gleichstand nach compareTo. compareTo muss nicht zu equals passen; enthält der Baum
+    // dadurch aber nie zwei verschiedene Schlüssel, die als gleich verglichen werden
+    private static final class TreeBucket<K, V> implements Bucket<K, V> {
+        private final Class<?> keyClass;
+        private final TreeMap<K, Entry<K, V>> tree = new TreeMap<>(TreeBucket::compareKeys);
+
+        private TreeBucket(Class<?> keyClass){
+            this.keyClass = keyClass;
+        }
+
+        // null, falls zwei verschiedene Schlüssel im Bucket als gleich verglichen werden
+        private static <K, V> TreeBucket<K, V> of(Class<?> keyClass, Bucket<K, V> bucket){
+            TreeBucket<K, V> t = new TreeBucket<>(keyClass);
+            for(var entry : bucket){
+                if(t.tree.put(entry.getKey(), entry) != null)
+                    return null;
+            }
+            return t;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compareKeys(Object a, Object b){
+            int c = Integer.compare(a.hashCode(), b.hashCode());
+            return (c != 0) ? c : ((Comparable) a).compareTo(b);
+        }
+
+        // Schlüssel anderer Klassen sind nie gleich und lassen sich nicht vergleichen
+        private boolean accepts(K key){
+            return key.getClass() == keyClass;
+        }
+
+        // key (noch nicht enthalten) kann eingefügt werden, ohne einen Schlüssel zu verdecken
+        private boolean canHold(K key){
+            return accepts(key) && tree.get(key) == null;
+        }
+
+        @Override
+        public Entry<K, V> find(K key){
+            Entry<K, V> entry = accepts(key) ? tree.get(key) : null;
+            return (entry != null && entry.getKey().equals(key)) ? entry : null;
+        }
+
+        @Override
+        public void put(Entry<K, V> entry){
+            tree.put(entry.getKey(), entry);
+        }
+
+        @Override
+        public Entry<K, V> removeKey(K key){
+            return (find(key) != null) ? tree.remove(key) : null;
+        }
+
+        @Override
+        public int size(){
+            return tree.size();
+        }
+
+        @Override
+        public boolean isEmpty(){
+            return tree.isEmpty();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator(){
+            return tree.values().iterator();
+        }
+    }
+
+    // Klasse aller Schlüssel im Bucket, falls sie Comparable ist; sonst null
+    private static Class<?> comparableKeyClass(Bucket<?, ?> bucket){
+        Class<?> keyClass = null;
+        for(var entry : bucket){
+            Class<?> c = entry.getKey().getClass();
+            if(keyClass == null && Comparable.class.isAssignableFrom(c))
+                keyClass = c;
+            else if(c != keyClass)
+                return null;
+        }
+        return keyClass;
+    }
+
+    // neuen Eintrag in t[idx] einfügen; zu lange Listen werden zum Baum
+    private static <K, V> void addTo(Bucket<K, V>[] t, int idx, Entry<K, V> entry){
+        Bucket<K, V> bucket = t[idx];
+        if(bucket == null){
+            t[idx] = bucket = new ListBucket<>();
+        } else if(bucket instanceof TreeBucket && !((TreeBucket<K, V>) bucket).canHold(entry.getKey())){
+            // fremde Schlüsselklasse oder compareTo passt nicht zu equals: zurück zur Liste
+            ListBucket<K, V> list = new ListBucket<>(bucket);
+            list.treeifiable = false;
+            t[idx] = bucket = list;
+        }
+        bucket.put(entry);
+        if(bucket.size() > TREEIFY_THRESHOLD && bucket instanceof ListBucket){
+            ListBucket<K, V> list = (ListBucket<K, V>) bucket;
+            if(list.treeifiable){
+                Class<?> keyClass = comparableKeyClass(list);
+                TreeBucket<K, V> tree = (keyClass != null) ? TreeBucket.of(keyClass, list) : null;
+                if(tree != null)
+                    t[idx] = tree;
+                else
+                    list.treeifiable = false; // nicht bei jedem weiteren Einfügen neu versuchen
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
+    private static <K, V> Bucket<K, V>[] newTable(int cap){
+        return (Bucket<K, V>[]) new Bucket<?, ?>[cap];
+    }
+
     public HashDictionary(int cap){
+        this(cap, false);
+    }
+
+    /**
+     * Returns a builder for a dictionary whose table is sized from the ladder of primes
+     * so that {@code expectedSize} entries fit without any rehash.
+     */
+    public static <K, V> Builder<K, V> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * Options for a HashDictionary with planned capacity, see {@link #builder()}.
+     */
+    public static final class Builder<K, V> {
+        private int expectedSize;
+        private float loadFactor = DEFAULT_LOAD_FACTOR;
+        private boolean incremental;
+        private boolean shrinkOnRemove;
+
+        private Builder(){
+        }
+
+        /**
+         * @param expectedSize number of entries that fit without rehashing.
+         */
+        public Builder<K, V> expectedSize(int expectedSize){
+            if(expectedSize < 0)
+                throw new IllegalArgumentException("expectedSize < 0: " + expectedSize);
+            this.expectedSize = expectedSize;
+            return this;
+        }
+
+        /**
+         * @param loadFactor average chain length above which the table grows (default 2.0).
+         */
+        public Builder<K, V> loadFactor(float loadFactor){
+            if(!(loadFactor > 0) || Float.isInfinite(loadFactor))
+                throw new IllegalArgumentException("illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            return this;
+        }
+
+        /**
+         * @param incremental grow by incremental rehashing, see {@link HashDictionary#HashDictionary(int, boolean)}.
+         */
+        public Builder<K, V> incremental(boolean incremental){
+            this.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * @param shrinkOnRemove if true, remove halves the table once the average chain length
+         *                       drops below a quarter of the load factor (never below the
+         *                       initial capacity).
+         */
+        public Builder<K, V> shrinkOnRemove(boolean shrinkOnRemove){
+            this.shrinkOnRemove = shrinkOnRemove;
+            return this;
+        }
+
+        public HashDictionary<K, V> build(){
+            return new HashDictionary<>(this);
+        }
+    }
+
+    /**
+     * @param cap initial capacity (should be prime).
+     * @param incremental if true, the table grows by incremental rehashing:
+     *                    old and new table stay live and each operation moves a few buckets,
+     *                    so no single insert has to copy the whole table.
+     */
+    public HashDictionary(int cap, boolean incremental){
         if(!isPrime(cap)){
             System.out.println("Capacity is not Prime");
         }
-        this.tab = new LinkedList[cap];
+        this.tab = newTable(cap);
+        this.incremental = incremental;
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.shrinkOnRemove = false;
+        this.minCap = cap;
+    }
+
+    private HashDictionary(Builder<K, V> b){
+        this.loadFactor = b.loadFactor;
+        this.incremental = b.incremental;
+        this.shrinkOnRemove = b.shrinkOnRemove;
+        this.tab = newTable(capacityFor(b.expectedSize, PRIMES[0]));
+        this.minCap = tab.length;
     }
 
     private boolean isLoadOkay(){
-        return (this.size / this.tab.length > LOAD_FACTOR) ? true : false;
+        return this.size > this.tab.length * loadFactor;
     }
 
-    private int newPrime(int oldPrime){
-        int newPrime = oldPrime *2;
-        while(!isPrime(newPrime))
-            newPrime++;
-        return newPrime;
+    // kleinste Stufe der Leiter ab start, auf der n Einträge ohne Wachsen Platz haben
+    private int capacityFor(int n, int start){
+        int cap = start;
+        while(n > cap * loadFactor && newPrime(cap) != cap)
+            cap = newPrime(cap);
+        return cap;
+    }
+
+    /**
+     * @return number of buckets in the table.
+     */
+    public int capacity(){
+        return tab.length;
+    }
+
+    // nächste Stufe der Leiter (ca. doppelte Kapazität);
+    // oldPrime selbst, falls die Leiter ausgeschöpft ist
+    private static int newPrime(int oldPrime){
+        for(int p : PRIMES){
+            if(p > oldPrime)
+                return p;
+        }
+        return oldPrime;
+    }
+
+    // vorige Stufe der Leiter (ca. halbe Kapazität); oldPrime selbst auf der untersten Stufe
+    private static int prevPrime(int oldPrime){
+        int prev = oldPrime;
+        for(int p : PRIMES){
+            if(p >= oldPrime)
+                break;
+            prev = p;
+        }
+        return prev;
     }
 
-    @SuppressWarnings("unchecked")
     private void doubleCap(){
-        List<Entry<K, V>> entries = new ArrayList<>(this.size);
-        for(var v : this)
-            entries.add(v);
-        this.tab = new LinkedList[newPrime(this.tab.length)];
-        this.size = 0;
-        for(var v : entries)
-            this.insert(v.getKey(), v.getValue());
+        int newCap = newPrime(this.tab.length);
+        if(newCap == this.tab.length)
+            return; // maximale Kapazität erreicht, Listen werden länger
+        resize(newCap, incremental);
+    }
 
+    // neue Tabelle; die Einträge werden sofort oder (incremental) schrittweise verschoben
+    private void resize(int newCap, boolean incremental){
+        finishRehash();
+        oldTab = tab;
+        migrateIdx = 0;
+        this.tab = newTable(newCap);
+        modCount++; // laufende Iteratoren kennen nur die alte Tabelle
+        if(!incremental)
+            finishRehash();
     }
 
-    @Override
-    public V insert(K key, V value) {
-        int hashCode = extractHashCode(key);
-        if(search(key)==null){
-            if(isLoadOkay()){
-                doubleCap();
-                hashCode = extractHashCode(key);
-            }
-            if(tab[hashCode] == null){
-                tab[hashCode] = new LinkedList<Entry<K, V>>();
-            }
-            tab[hashCode].add(new Entry<K, V>(key, value));
-            size++;
-        } else {
-            for(var entry : tab[hashCode]){
-                if(entry.getKey().equals(key)){
-                    return entry.setValue(value);
-                }
+    // halbiert die Tabelle, wenn die mittlere Listenlänge unter loadFactor / 4 fällt;
+    // danach liegt sie unter loadFactor / 2, wächst also nicht gleich wieder
+    private void shrinkIfSparse(){
+        if(tab.length > minCap && size < tab.length * loadFactor / 4){
+            int newCap = Math.max(prevPrime(tab.length), minCap);
+            if(newCap < tab.length)
+                resize(newCap, incremental);
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest capacity on the ladder of primes
+     * that holds the current entries without exceeding the load factor,
+     * e.g. to return memory after many removals.
+     */
+    public void trimToSize(){
+        int newCap = capacityFor(size, PRIMES[0]);
+        if(newCap < tab.length)
+            resize(newCap, false);
+    }
+
+    // verschiebt die nächsten Buckets der alten Tabelle in die neue
+    private void rehashStep(int buckets){
+        for(int n = 0; n < buckets && oldTab != null; n++){
+            Bucket<K, V> bucket = oldTab[migrateIdx];
+            if(bucket != null){
+                for(var entry : bucket)
+                    addTo(tab, extractHashCode(entry.getKey()), entry);
+                oldTab[migrateIdx] = null;
             }
+            if(++migrateIdx == oldTab.length)
+                oldTab = null;
         }
+    }
+
+    private void finishRehash(){
+        if(oldTab != null)
+            rehashStep(oldTab.length - migrateIdx);
+    }
+
+    // Tabelle vorab (in einem Schritt) so weit vergrößern,
+    // dass expected Einträge ohne weiteres Wachsen Platz haben
+    private void ensureCapacity(int expected){
+        finishRehash();
+        int newCap = capacityFor(expected, tab.length);
+        if(newCap != tab.length)
+            resize(newCap, false);
+    }
+
+    // Eintrag zu key in der neuen oder (falls noch nicht verschoben) der alten Tabelle
+    private Entry<K, V> findEntry(K key){
+        Entry<K, V> entry = findIn(tab[extractHashCode(key)], key);
+        if(entry == null && oldTab != null)
+            entry = findIn(oldTab[extractHashCode(key, oldTab.length)], key);
+        return entry;
+    }
+
+    private Entry<K, V> findIn(Bucket<K, V> bucket, K key){
+        return (bucket != null) ? bucket.find(key) : null;
+    }
+
+    // Einfügen mit nur einem Durchlauf durch die Kollisionsliste.
+    // Ein Schlüssel mit Wert null gilt als vorhanden.
+    @Override
+    public V insert(K key, V value) {
+        if(oldTab != null)
+            rehashStep(MIGRATE_STEPS);
+        Entry<K, V> entry = findEntry(key);
+        if(entry != null)
+            return entry.setValue(value);
+        // Neuer Eintrag:
+        if(isLoadOkay())
+            doubleCap();
+        addTo(tab, extractHashCode(key), new Entry<K, V>(key, value));
+        size++;
+        modCount++;
         return null;
     }
 
 
     @Override
     public V search(K key) {
-        int hashCode = extractHashCode(key);
-        if(tab[hashCode] != null){
-            for(var entry : tab[hashCode]){
-                if(entry.getKey().equals(key))
-                    return entry.getValue();
-            }
-        }
-        return null;
+        if(oldTab != null)
+            rehashStep(MIGRATE_STEPS);
+        Entry<K, V> entry = findEntry(key);
+        return (entry != null) ? entry.getValue() : null;
     }
 
     @Override
     public V remove(K key) {
-        if(search(key)!= null){
-            int hashCode = extractHashCode(key);
-            for(int i = 0; i < tab[hashCode].size(); i++){
-                if(tab[hashCode].get(i).getKey().equals(key)){
-                    size--;
-                    return tab[hashCode].remove(i).getValue();
-                }
+        if(oldTab != null)
+            rehashStep(MIGRATE_STEPS);
+        Entry<K, V> entry = removeFrom(tab, extractHashCode(key), key);
+        if(entry == null && oldTab != null)
+            entry = removeFrom(oldTab, extractHashCode(key, oldTab.length), key);
+        if(entry == null)
+            return null;
+        size--;
+        modCount++;
+        if(shrinkOnRemove)
+            shrinkIfSparse();
+        return entry.getValue();
+    }
+
+    private Entry<K, V> removeFrom(Bucket<K, V>[] t, int hashCode, K key){
+        Bucket<K, V> bucket = t[hashCode];
+        if(bucket == null)
+            return null;
+        Entry<K, V> entry = bucket.removeKey(key);
+        if(bucket.isEmpty())
+            t[hashCode] = null; // leere Liste würde den Iterator vorzeitig beenden
+        else if(bucket instanceof TreeBucket && bucket.size() <= UNTREEIFY_THRESHOLD)
+            t[hashCode] = new ListBucket<>(bucket);
+        return entry;
+    }
+
+    // Batch-Operationen in zwei Phasen: zuerst alle Bucket-Indizes berechnen (nur hashCode),
+    // dann die Buckets abarbeiten. Java kennt kein Prefetch; so hängen aber die Tabellenzugriffe
+    // nicht mehr voneinander ab und können sich im Prozessor überlappen.
+
+    @Override
+    public void insertAll(Collection<? extends Entry<? extends K, ? extends V>> entries) {
+        ensureCapacity(size + entries.size());
+        int[] idx = new int[entries.size()];
+        int i = 0;
+        for(var e : entries)
+            idx[i++] = extractHashCode(e.getKey());
+        i = 0;
+        for(var e : entries){
+            int hashCode = idx[i++];
+            Entry<K, V> entry = findIn(tab[hashCode], e.getKey());
+            if(entry != null){
+                entry.setValue(e.getValue());
+            } else {
+                addTo(tab, hashCode, new Entry<K, V>(e.getKey(), e.getValue()));
+                size++;
+                modCount++;
             }
         }
-        return null;
+    }
+
+    @Override
+    public void searchAll(K[] keys, V[] results) {
+        if(results.length < keys.length)
+            throw new IllegalArgumentException("results is shorter than keys");
+        if(oldTab != null)
+            rehashStep(MIGRATE_STEPS); // wie search: kein vollständiges Umkopieren
+        int[] idx = new int[keys.length];
+        for(int i = 0; i < keys.length; i++)
+            idx[i] = extractHashCode(keys[i]);
+        for(int i = 0; i < keys.length; i++){
+            Entry<K, V> entry = findIn(tab[idx[i]], keys[i]);
+            if(entry == null && oldTab != null)
+                entry = findIn(oldTab[extractHashCode(keys[i], oldTab.length)], keys[i]);
+            results[i] = (entry != null) ? entry.getValue() : null;
+        }
     }
 
     @Override
@@ -115,32 +542,140 @@ public class HashDictionary<K,V> implements Dictionary<K,V>{
 
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new Iterator<Dictionary.Entry<K,V>>(){
-            int tabIdx = 0;
-            int listIdx = 0;
-
-            @Override
-            public boolean hasNext() {
-                if(tabIdx < tab.length){
-                    if(tab[tabIdx] == null){
-                        tabIdx++;
-                        return this.hasNext();
-                    }
-                    if(listIdx < tab[tabIdx].size())
-                        return true;
-                }
-                return false;
+        finishRehash(); // Iteration nur über eine Tabelle
+        return new HashIterator();
+    }
+
+    // hält den Listen-Iterator des aktuellen Buckets: next() in O(1) amortisiert,
+    // leere Buckets werden in einer Schleife übersprungen; fail-fast über modCount
+    private class HashIterator implements Iterator<Entry<K, V>> {
+        private int tabIdx = 0; // nächster noch nicht besuchter Bucket
+        private Iterator<Entry<K, V>> bucketIt; // liefert den nächsten Eintrag
+        private Iterator<Entry<K, V>> lastIt; // hat den zuletzt gelieferten Eintrag geliefert
+        private int lastIdx;
+        private int expectedModCount = modCount;
+
+        private HashIterator(){
+            advance();
+        }
+
+        private void advance(){
+            while((bucketIt == null || !bucketIt.hasNext()) && tabIdx < tab.length){
+                bucketIt = (tab[tabIdx] != null) ? tab[tabIdx].iterator() : null;
+                tabIdx++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bucketIt != null && bucketIt.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Entry<K, V> entry = bucketIt.next();
+            lastIt = bucketIt;
+            lastIdx = tabIdx - 1;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if(lastIt == null)
+                throw new IllegalStateException();
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            lastIt.remove();
+            if(tab[lastIdx].isEmpty())
+                tab[lastIdx] = null;
+            lastIt = null;
+            size--;
+            expectedModCount = ++modCount;
+        }
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        finishRehash();
+        return new HashSpliterator(tab, 0, tab.length, size, true, modCount);
+    }
+
+    // zerlegt den Tabellenbereich [index, fence) in zwei Hälften, wie HashMap; fail-fast über modCount
+    private class HashSpliterator implements Spliterator<Entry<K, V>> {
+        private final Bucket<K, V>[] t;
+        private int index;
+        private final int fence;
+        private int est; // geschätzte Anzahl; exakt nur vor dem ersten Teilen
+        private boolean exact;
+        private Iterator<Entry<K, V>> current; // Bucket, der gerade durchlaufen wird
+        private final int expectedModCount;
+
+        private HashSpliterator(Bucket<K, V>[] t, int index, int fence, int est, boolean exact, int expectedModCount){
+            this.t = t;
+            this.index = index;
+            this.fence = fence;
+            this.est = est;
+            this.exact = exact;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit(){
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if(lo >= mid || current != null)
+                return null;
+            index = mid;
+            est >>>= 1;
+            exact = false;
+            return new HashSpliterator(t, lo, mid, est, false, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action){
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            while(current == null || !current.hasNext()){
+                current = null;
+                if(index >= fence)
+                    return false;
+                if(t[index] != null)
+                    current = t[index].iterator();
+                index++;
             }
+            action.accept(current.next());
+            return true;
+        }
 
-            @Override
-            public Entry<K, V> next() {
-                Entry<K, V> entry = tab[tabIdx].get(listIdx++);
-                if(tab[tabIdx].size()== listIdx){
-                    tabIdx++;
-                    listIdx = 0;
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action){
+            if(current != null){
+                current.forEachRemaining(action);
+                current = null;
+            }
+            for(; index < fence; index++){
+                if(t[index] != null){
+                    for(var entry : t[index])
+                        action.accept(entry);
                 }
-                return entry;
             }
-        };
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize(){
+            return est;
+        }
+
+        @Override
+        public int characteristics(){
+            return (exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
     }
 }
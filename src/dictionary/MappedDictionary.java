@@ -0,0 +1,191 @@
+package dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only String dictionary backed by a memory-mapped binary file.
+ * <p>
+ * A file is written once with {@link #write(Dictionary, Path)} and opened with {@link #open(Path)};
+ * opening only maps the file, nothing is parsed. Lookups binary search the offset table
+ * and compare the key bytes directly in the mapped buffer; only the value of a found entry is decoded.
+ * <p>
+ * File layout (big endian):
+ * <pre>
+ * int magic, int version, int count
+ * int[count] record offsets, sorted by key (UTF-8 bytes, unsigned lexicographic)
+ * records: int keyLength, int valueLength (-1 for null), key bytes, value bytes
+ * </pre>
+ * Files are limited to 2 GB. insert and remove throw UnsupportedOperationException.
+ */
+public class MappedDictionary implements Dictionary<String, String> {
+    private static final int MAGIC = 0x44494354; // "DICT"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER = 12;
+    private static final int NULL_VALUE = -1;
+
+    private final ByteBuffer buf;
+    private final int size;
+
+    private MappedDictionary(ByteBuffer buf) throws IOException {
+        if (buf.capacity() < FILE_HEADER || buf.getInt(0) != MAGIC)
+            throw new IOException("not a dictionary file");
+        if (buf.getInt(4) != VERSION)
+            throw new IOException("unsupported dictionary file version " + buf.getInt(4));
+        this.buf = buf;
+        this.size = buf.getInt(8);
+    }
+
+    /**
+     * Maps a dictionary file written by {@link #write(Dictionary, Path)}.
+     * @param file the dictionary file.
+     * @return a read-only dictionary backed by the mapped file.
+     * @throws IOException if the file cannot be mapped or has a wrong format.
+     */
+    public static MappedDictionary open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE)
+                throw new IOException("dictionary file exceeds 2 GB");
+            MappedByteBuffer mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return new MappedDictionary(mapped); // Mapping bleibt nach close() gültig
+        }
+    }
+
+    /**
+     * Writes the contents of dict to file in sorted layout.
+     * @param dict the dictionary to be written.
+     * @param file the target file (overwritten if it exists).
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Dictionary<String, String> dict, Path file) throws IOException {
+        int n = dict.size();
+        byte[][] keys = new byte[n][];
+        byte[][] values = new byte[n][];
+        Integer[] order = new Integer[n];
+        int i = 0;
+        for (Entry<String, String> e : dict) {
+            keys[i] = e.getKey().getBytes(StandardCharsets.UTF_8);
+            values[i] = (e.getValue() == null) ? null : e.getValue().getBytes(StandardCharsets.UTF_8);
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (x, y) -> Arrays.compareUnsigned(keys[x], keys[y]));
+
+        long pos = FILE_HEADER + 4L * n;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            for (int k : order) {
+                if (pos > Integer.MAX_VALUE)
+                    throw new IOException("dictionary file exceeds 2 GB");
+                out.writeInt((int) pos);
+                pos += 8 + keys[k].length + ((values[k] == null) ? 0 : values[k].length);
+            }
+            for (int k : order) {
+                out.writeInt(keys[k].length);
+                out.writeInt((values[k] == null) ? NULL_VALUE : values[k].length);
+                out.write(keys[k]);
+                if (values[k] != null)
+                    out.write(values[k]);
+            }
+        }
+    }
+
+    private int record(int i) {
+        return buf.getInt(FILE_HEADER + 4 * i);
+    }
+
+    // vergleicht den Schlüssel von Datensatz rec vorzeichenlos mit key, direkt im Puffer
+    private int compareKey(int rec, byte[] key) {
+        int len = buf.getInt(rec);
+        int from = rec + 8;
+        int n = Math.min(len, key.length);
+        for (int j = 0; j < n; j++) {
+            int c = Byte.compareUnsigned(buf.get(from + j), key[j]);
+            if (c != 0)
+                return c;
+        }
+        return Integer.compare(len, key.length);
+    }
+
+    private String decode(int from, int length) {
+        byte[] b = new byte[length];
+        buf.get(from, b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private String keyOf(int rec) {
+        return decode(rec + 8, buf.getInt(rec));
+    }
+
+    private String valueOf(int rec) {
+        int len = buf.getInt(rec + 4);
+        return (len == NULL_VALUE) ? null : decode(rec + 8 + buf.getInt(rec), len);
+    }
+
+    @Override
+    public String search(String key) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        int li = 0;
+        int re = size - 1;
+        while (re >= li) {
+            int m = (li + re) >>> 1;
+            int rec = record(m);
+            int c = compareKey(rec, k);
+            if (c > 0)
+                re = m - 1;
+            else if (c < 0)
+                li = m + 1;
+            else
+                return valueOf(rec);
+        }
+        return null;
+    }
+
+    @Override
+    public String insert(String key, String value) {
+        throw new UnsupportedOperationException("mapped dictionary is read-only");
+    }
+
+    @Override
+    public String remove(String key) {
+        throw new UnsupportedOperationException("mapped dictionary is read-only");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public Entry<String, String> next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                int rec = record(i++);
+                return new Entry<>(keyOf(rec), valueOf(rec));
+            }
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package dictionary;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Measures the memory footprint of the Dictionary implementations.
+ * <p>
+ * Walks the object graph reachable from a filled dictionary and adds up the shallow
+ * sizes of all objects. The sizes are modelled from the settings of the running JVM
+ * (header and reference size with or without compressed pointers, 8 byte alignment),
+ * similar to the estimate mode of JOL; padding between fields is ignored.
+ * Reported per entry are the total retained bytes and the overhead of the structure
+ * alone, i.e. without the key and value Strings.
+ * <p>
+ * The walk reads private fields of JDK classes via reflection, so the measurement
+ * runs in a forked JVM with the required {@code --add-opens} options.
+ * <p>
+ * Usage: {@code java dictionary.MemoryFootprint [name-filter [size ...]]}
+ */
+public class MemoryFootprint {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    private static final Map<String, Supplier<Dictionary<String, String>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("SortedArrayDictionary", SortedArrayDictionary::new);
+        IMPLEMENTATIONS.put("HashDictionary", () -> new HashDictionary<>(3));
+        IMPLEMENTATIONS.put("BinaryTreeDictionary", BinaryTreeDictionary::new);
+        IMPLEMENTATIONS.put("OpenHashDictionary", OpenHashDictionary::new);
+        IMPLEMENTATIONS.put("ConcurrentHashDictionary", ConcurrentHashDictionary::new);
+        IMPLEMENTATIONS.put("PersistentBinaryTreeDict", PersistentBinaryTreeDictionary::new);
+        IMPLEMENTATIONS.put("ByteArenaDictionary", ByteArenaDictionary::new);
+        IMPLEMENTATIONS.put("RadixTreeDictionary", RadixTreeDictionary::new);
+        IMPLEMENTATIONS.put("BPlusTreeDictionary", BPlusTreeDictionary::new);
+        IMPLEMENTATIONS.put("BlockedSortedArrayDict", BlockedSortedArrayDictionary::new);
+        IMPLEMENTATIONS.put("ConcurrentSkipListDict", ConcurrentSkipListDictionary::new);
+    }
+
+    private static final int OBJECT_HEADER;
+    private static final int REFERENCE_SIZE;
+
+    static {
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        boolean compressedOops = isEnabled(hotSpot, "UseCompressedOops");
+        boolean compressedClass = isEnabled(hotSpot, "UseCompressedClassPointers");
+        REFERENCE_SIZE = compressedOops ? 4 : 8;
+        OBJECT_HEADER = compressedClass ? 12 : 16; // Mark-Word + Klassenzeiger
+    }
+
+    private static boolean isEnabled(HotSpotDiagnosticMXBean hotSpot, String option) {
+        return hotSpot != null && Boolean.parseBoolean(hotSpot.getVMOption(option).getValue());
+    }
+
+    // Pakete, deren private Felder beim Durchlaufen gelesen werden
+    private static final String[] OPEN_PACKAGES = {
+            "java.lang", "java.util", "java.util.concurrent", "java.util.concurrent.atomic",
+            "java.util.concurrent.locks", "java.nio"
+    };
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (!Object.class.getModule().isOpen("java.util", MemoryFootprint.class.getModule())) {
+            // neu starten mit --add-opens, Ausgabe und Exit-Code übernehmen
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            List<String> cmd = new ArrayList<>(List.of(java));
+            for (String pkg : OPEN_PACKAGES)
+                cmd.addAll(List.of("--add-opens", "java.base/" + pkg + "=ALL-UNNAMED"));
+            cmd.addAll(List.of("-cp", System.getProperty("java.class.path"), MemoryFootprint.class.getName()));
+            cmd.addAll(List.of(args));
+            System.exit(new ProcessBuilder(cmd).inheritIO().start().waitFor());
+        }
+        String filter = (args.length > 0) ? args[0].toLowerCase() : "";
+        int[] sizes = SIZES;
+        if (args.length > 1) {
+            sizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++)
+                sizes[i - 1] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%-26s %9s %14s %12s %15s%n", "Dictionary", "Size", "Total bytes", "B/entry", "Overhead B/entry");
+        for (int size : sizes) {
+            // aufsteigende Schlüssel: SortedArrayDictionary muss beim Aufbau nichts verschieben
+            String[] keys = new String[size];
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = String.format("w%09d", i);
+                values[i] = "v" + i;
+            }
+            Set<Object> payload = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < size; i++) {
+                payload.add(keys[i]);
+                payload.add(values[i]);
+            }
+
+            for (var impl : IMPLEMENTATIONS.entrySet()) {
+                if (!impl.getKey().toLowerCase().contains(filter))
+                    continue;
+                Dictionary<String, String> dict = impl.getValue().get();
+                for (int i = 0; i < size; i++)
+                    dict.insert(keys[i], values[i]);
+                long total = retainedSize(dict, Collections.emptySet());
+                long overhead = retainedSize(dict, payload);
+                System.out.printf("%-26s %9d %14d %12.1f %15.1f%n",
+                        impl.getKey(), size, total, (double) total / size, (double) overhead / size);
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of the shallow sizes of all objects reachable from root.
+     * @param root start of the object graph.
+     * @param excluded objects (compared by identity) that are neither counted nor traversed.
+     * @return retained size in bytes.
+     */
+    public static long retainedSize(Object root, Set<Object> excluded) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        long total = 0;
+        while (!stack.isEmpty()) {
+            Object o = stack.pop();
+            if (excluded.contains(o) || !visited.add(o))
+                continue;
+            Class<?> c = o.getClass();
+            if (c == Class.class)
+                continue; // Klassen gehören nicht zur Datenstruktur
+            if (c.isArray()) {
+                int length = Array.getLength(o);
+                int scale = fieldSize(c.getComponentType());
+                // Längenfeld nach dem Header; 8-Byte-Elemente beginnen ausgerichtet
+                long base = (OBJECT_HEADER + 4 + scale - 1) / scale * scale;
+                total += align(base + (long) scale * length);
+                if (!c.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < length; i++) {
+                        Object e = Array.get(o, i);
+                        if (e != null)
+                            stack.push(e);
+                    }
+                }
+            } else {
+                total += shallowSize(c);
+                for (Field f : instanceFields(c)) {
+                    if (!f.getType().isPrimitive()) {
+                        Object e = fieldValue(f, o);
+                        if (e != null)
+                            stack.push(e);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new IdentityHashMap<>();
+
+    // alle Instanzfelder einschließlich der geerbten
+    private static List<Field> instanceFields(Class<?> c) {
+        List<Field> fields = FIELDS.get(c);
+        if (fields == null) {
+            fields = new ArrayList<>();
+            for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+                for (Field f : k.getDeclaredFields()) {
+                    if (!Modifier.isStatic(f.getModifiers()))
+                        fields.add(f);
+                }
+            }
+            FIELDS.put(c, fields);
+        }
+        return fields;
+    }
+
+    // null, falls das Feld nicht lesbar ist (Paket nicht geöffnet): dann zählt nur die Hülle
+    private static Object fieldValue(Field f, Object o) {
+        try {
+            f.setAccessible(true);
+            return f.get(o);
+        } catch (InaccessibleObjectException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    // Header plus Summe der Feldgrößen; Lücken durch Feldausrichtung werden nicht modelliert
+    private static long shallowSize(Class<?> c) {
+        long end = OBJECT_HEADER;
+        for (Field f : instanceFields(c))
+            end += fieldSize(f.getType());
+        return align(end);
+    }
+
+    private static int fieldSize(Class<?> t) {
+        if (t == long.class || t == double.class)
+            return 8;
+        if (t == int.class || t == float.class)
+            return 4;
+        if (t == short.class || t == char.class)
+            return 2;
+        if (t == byte.class || t == boolean.class)
+            return 1;
+        return REFERENCE_SIZE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
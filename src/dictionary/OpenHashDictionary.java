@@ -0,0 +1,191 @@
+package dictionary;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of the Dictionary interface as hash table with open addressing.
+ * <p>
+ * Keys, values and cached hash codes are stored in flat parallel arrays
+ * (no list nodes, no Entry objects). Collisions are resolved by linear probing,
+ * removal uses backward shift deletion, so no tombstones are needed.
+ * The capacity is always a power of two.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class OpenHashDictionary<K, V> implements Dictionary<K, V> {
+    private static final int DEF_CAPACITY = 16;
+    private static final float MAX_LOAD = 0.6f;
+    private static final int FREE = 0; // Markierung für freien Slot in hashes
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes; // gecachter Hashcode, FREE = Slot ist leer
+    private int size;
+    private int threshold;
+
+    public OpenHashDictionary() {
+        this(DEF_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries that fit without resizing.
+     */
+    public OpenHashDictionary(int expectedSize) {
+        int cap = DEF_CAPACITY;
+        while (cap * MAX_LOAD < expectedSize)
+            cap *= 2;
+        allocate(cap);
+    }
+
+    private void allocate(int cap) {
+        keys = new Object[cap];
+        values = new Object[cap];
+        hashes = new int[cap];
+        threshold = (int) (cap * MAX_LOAD);
+    }
+
+    // Hashcode mischen (murmur3 fmix32), damit auch schwache hashCode()-Funktionen
+    // in einer Zweierpotenz-Tabelle gut streuen. 0 ist für freie Slots reserviert.
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h == FREE) ? 1 : h;
+    }
+
+    // Slot des Schlüssels oder -1, falls nicht vorhanden
+    private int findSlot(Object key, int h) {
+        int mask = hashes.length - 1;
+        int i = h & mask;
+        while (hashes[i] != FREE) {
+            if (hashes[i] == h && keys[i].equals(key))
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V search(K key) {
+        int i = findSlot(key, hash(key));
+        return (i >= 0) ? (V) values[i] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V insert(K key, V value) {
+        int h = hash(key);
+        int mask = hashes.length - 1;
+        int i = h & mask;
+        while (hashes[i] != FREE) {
+            if (hashes[i] == h && keys[i].equals(key)) {
+                // Vorhandener Eintrag wird überschrieben:
+                V r = (V) values[i];
+                values[i] = value;
+                return r;
+            }
+            i = (i + 1) & mask;
+        }
+        // Neuer Eintrag im ersten freien Slot:
+        hashes[i] = h;
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold)
+            resize(2 * hashes.length);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int i = findSlot(key, hash(key));
+        if (i < 0)
+            return null;
+        V r = (V) values[i];
+        deleteSlot(i);
+        return r;
+    }
+
+    // Backward shift deletion: nachfolgende Einträge des Clusters rücken auf,
+    // sofern sie dadurch nicht vor ihre Heimadresse geschoben werden.
+    private void deleteSlot(int i) {
+        int mask = hashes.length - 1;
+        int gap = i;
+        int j = (i + 1) & mask;
+        while (hashes[j] != FREE) {
+            int home = hashes[j] & mask;
+            // Eintrag j darf nach gap, wenn home zyklisch nicht in (gap, j] liegt
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                hashes[gap] = hashes[j];
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+            j = (j + 1) & mask;
+        }
+        hashes[gap] = FREE;
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+    }
+
+    private void resize(int newCap) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(newCap);
+        int mask = newCap - 1;
+        for (int k = 0; k < oldHashes.length; k++) {
+            if (oldHashes[k] == FREE)
+                continue;
+            int i = oldHashes[k] & mask;
+            while (hashes[i] != FREE)
+                i = (i + 1) & mask;
+            hashes[i] = oldHashes[k];
+            keys[i] = oldKeys[k];
+            values[i] = oldValues[k];
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new OpenHashIterator();
+    }
+
+    // Liefert Kopien der Einträge; setValue wirkt nicht auf das Dictionary zurück.
+    private class OpenHashIterator implements Iterator<Entry<K, V>> {
+        private int slot = advance(0);
+
+        private int advance(int i) {
+            while (i < hashes.length && hashes[i] == FREE)
+                i++;
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < hashes.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Entry<K, V> e = new Entry<>((K) keys[slot], (V) values[slot]);
+            slot = advance(slot + 1);
+            return e;
+        }
+    }
+}
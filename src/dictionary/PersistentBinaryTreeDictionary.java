@@ -0,0 +1,245 @@
+package dictionary;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Implementation of the Dictionary interface as persistent AVL tree (path copying).
+ * <p>
+ * Nodes are immutable. An insert or remove copies only the nodes on the path
+ * from the root to the changed position and then publishes the new root,
+ * so all other nodes are shared between versions.
+ * Readers never lock: {@code search} and iteration work on the version that was
+ * current when they started, and {@link #snapshot()} returns an immutable
+ * view that stays unchanged while the writer continues.
+ * <p>
+ * Write operations are synchronized; the structure is meant for a single writer
+ * and many concurrent readers.
+ *
+ * @param <K> Key.
+ * @param <V> Value.
+ */
+public class PersistentBinaryTreeDictionary<K extends Comparable<? super K>, V> implements Dictionary<K, V> {
+
+    static private class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int height;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+
+        private Node(K k, V v, Node<K, V> l, Node<K, V> r) {
+            key = k;
+            value = v;
+            left = l;
+            right = r;
+            height = Math.max(getHeight(l), getHeight(r)) + 1;
+        }
+    }
+
+    // Wurzel und Größe werden gemeinsam veröffentlicht, damit Leser ein konsistentes Paar sehen
+    static private class Version<K, V> {
+        private final Node<K, V> root;
+        private final int size;
+
+        private Version(Node<K, V> root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+    }
+
+    private volatile Version<K, V> current = new Version<>(null, 0);
+
+    /**
+     * Returns an immutable view of the current contents.
+     * Later changes to this dictionary are not visible in the snapshot.
+     * insert and remove on the snapshot throw UnsupportedOperationException.
+     * @return a read-only snapshot of this dictionary.
+     */
+    public Dictionary<K, V> snapshot() {
+        return new Snapshot<>(current);
+    }
+
+    @Override
+    public V search(K key) {
+        Node<K, V> p = findNode(current.root, key);
+        return (p != null) ? p.value : null;
+    }
+
+    @Override
+    public synchronized V insert(K key, V value) {
+        Version<K, V> v = current;
+        Node<K, V> p = findNode(v.root, key);
+        current = new Version<>(insertR(key, value, v.root), (p == null) ? v.size + 1 : v.size);
+        return (p != null) ? p.value : null;
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        Version<K, V> v = current;
+        Node<K, V> p = findNode(v.root, key);
+        if (p == null)
+            return null;
+        current = new Version<>(removeR(key, v.root), v.size - 1);
+        return p.value;
+    }
+
+    @Override
+    public int size() {
+        return current.size;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new PersistentTreeIterator<>(current.root);
+    }
+
+    // Wurzel und Größe aus derselben Version, damit SIZED auch bei gleichzeitigem Schreiben stimmt
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        Version<K, V> v = current;
+        return Spliterators.spliterator(new PersistentTreeIterator<>(v.root), v.size,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> findNode(Node<K, V> p, K key) {
+        while (p != null) {
+            int c = key.compareTo(p.key);
+            if (c < 0)
+                p = p.left;
+            else if (c > 0)
+                p = p.right;
+            else
+                return p;
+        }
+        return null;
+    }
+
+    // liefert die neue Wurzel des Teilbaums; p selbst bleibt unverändert
+    private Node<K, V> insertR(K key, V value, Node<K, V> p) {
+        if (p == null)
+            return new Node<>(key, value, null, null);
+        int c = key.compareTo(p.key);
+        if (c < 0)
+            return balance(p.key, p.value, insertR(key, value, p.left), p.right);
+        else if (c > 0)
+            return balance(p.key, p.value, p.left, insertR(key, value, p.right));
+        else
+            return new Node<>(p.key, value, p.left, p.right); // Schlüssel ist bereits vorhanden
+    }
+
+    // key muss im Teilbaum p vorhanden sein
+    private Node<K, V> removeR(K key, Node<K, V> p) {
+        int c = key.compareTo(p.key);
+        if (c < 0)
+            return balance(p.key, p.value, removeR(key, p.left), p.right);
+        else if (c > 0)
+            return balance(p.key, p.value, p.left, removeR(key, p.right));
+        else if (p.left == null)
+            return p.right;
+        else if (p.right == null)
+            return p.left;
+        // p hat zwei Kinder: durch kleinsten Knoten des rechten Teilbaums ersetzen
+        Node<K, V> min = p.right;
+        while (min.left != null)
+            min = min.left;
+        return balance(min.key, min.value, p.left, removeMinR(p.right));
+    }
+
+    private Node<K, V> removeMinR(Node<K, V> p) {
+        if (p.left == null)
+            return p.right;
+        return balance(p.key, p.value, removeMinR(p.left), p.right);
+    }
+
+    private static int getHeight(Node<?, ?> p) {
+        return (p == null) ? -1 : p.height;
+    }
+
+    // baut einen Knoten (k,v) mit Teilbäumen l und r; rotiert dabei wie im AVL-Baum,
+    // wobei jede Rotation neue Knoten erzeugt statt alte zu verändern
+    private Node<K, V> balance(K k, V v, Node<K, V> l, Node<K, V> r) {
+        int bal = getHeight(r) - getHeight(l);
+        if (bal == -2) {
+            if (getHeight(l.left) >= getHeight(l.right)) // Fall A1: rotateRight
+                return new Node<>(l.key, l.value, l.left, new Node<>(k, v, l.right, r));
+            Node<K, V> lr = l.right; // Fall A2: rotateLeftRight
+            return new Node<>(lr.key, lr.value,
+                    new Node<>(l.key, l.value, l.left, lr.left), new Node<>(k, v, lr.right, r));
+        } else if (bal == +2) {
+            if (getHeight(r.right) >= getHeight(r.left)) // Fall B1: rotateLeft
+                return new Node<>(r.key, r.value, new Node<>(k, v, l, r.left), r.right);
+            Node<K, V> rl = r.left; // Fall B2: rotateRightLeft
+            return new Node<>(rl.key, rl.value,
+                    new Node<>(k, v, l, rl.left), new Node<>(r.key, r.value, rl.right, r.right));
+        }
+        return new Node<>(k, v, l, r);
+    }
+
+    // Inorder-Durchlauf mit explizitem Stack (Knoten haben keine Elternzeiger)
+    private static class PersistentTreeIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Deque<Node<K, V>> stack = new ArrayDeque<>();
+
+        private PersistentTreeIterator(Node<K, V> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node<K, V> p) {
+            for (; p != null; p = p.left)
+                stack.push(p);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+            Node<K, V> p = stack.pop();
+            pushLeft(p.right);
+            return new Entry<>(p.key, p.value);
+        }
+    }
+
+    // unveränderliche Sicht auf eine Version
+    private static class Snapshot<K extends Comparable<? super K>, V> implements Dictionary<K, V> {
+        private final Version<K, V> version;
+
+        private Snapshot(Version<K, V> version) {
+            this.version = version;
+        }
+
+        @Override
+        public V search(K key) {
+            Node<K, V> p = findNode(version.root, key);
+            return (p != null) ? p.value : null;
+        }
+
+        @Override
+        public V insert(K key, V value) {
+            throw new UnsupportedOperationException("snapshot is read-only");
+        }
+
+        @Override
+        public V remove(K key) {
+            throw new UnsupportedOperationException("snapshot is read-only");
+        }
+
+        @Override
+        public int size() {
+            return version.size;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new PersistentTreeIterator<>(version.root);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package dictionary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * String dictionary implemented as compressed trie (radix tree).
+ * <p>
+ * Each edge is labelled with a String; chains of nodes with only one child and
+ * no entry are merged into one edge, so common prefixes of the keys are stored only once.
+ * search and insert take O(key length) character comparisons, independent of the size.
+ * The children of a node are kept sorted by their first character, so the iterator
+ * returns the entries in ascending key order (like {@link String#compareTo}).
+ * <p>
+ * Besides the Dictionary operations the tree supports enumerating all entries with
+ * a given prefix ({@link #prefix(String)}) and autocompletion ({@link #autocomplete(String, int)}).
+ * null keys are not permitted; null values are.
+ *
+ * @param <V> Value.
+ */
+public class RadixTreeDictionary<V> implements Dictionary<String, V> {
+
+    private static class Node<V> {
+        private String label; // Beschriftung der Kante vom Elternknoten
+        private V value;
+        private boolean hasValue; // Knoten ist das Ende eines Schlüssels
+        private Node<V>[] children; // aufsteigend nach dem ersten Zeichen der Beschriftung
+        private int childCount;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        // Index des Kindes mit erstem Zeichen c, sonst -(Einfügeposition) - 1
+        private int indexOf(char c) {
+            int li = 0;
+            int re = childCount - 1;
+            while (li <= re) {
+                int m = (li + re) >>> 1;
+                char f = children[m].label.charAt(0);
+                if (f < c)
+                    li = m + 1;
+                else if (f > c)
+                    re = m - 1;
+                else
+                    return m;
+            }
+            return -li - 1;
+        }
+
+        private Node<V> child(char c) {
+            int i = indexOf(c);
+            return (i >= 0) ? children[i] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addChild(Node<V> child) {
+            int i = -indexOf(child.label.charAt(0)) - 1;
+            if (children == null)
+                children = (Node<V>[]) new Node<?>[2];
+            else if (childCount == children.length)
+                children = Arrays.copyOf(children, 2 * childCount);
+            System.arraycopy(children, i, children, i + 1, childCount - i);
+            children[i] = child;
+            childCount++;
+        }
+
+        private void removeChild(int i) {
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            children[--childCount] = null;
+            if (childCount == 0)
+                children = null;
+        }
+    }
+
+    private final Node<V> root = new Node<>("");
+    private int size = 0;
+
+    // Länge des gemeinsamen Präfixes von label und key ab Position from
+    private static int commonPrefix(String label, String key, int from) {
+        int n = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < n && label.charAt(i) == key.charAt(from + i))
+            i++;
+        return i;
+    }
+
+    // Knoten, der genau den Schlüssel key abschließt (auch ohne Eintrag), sonst null
+    private Node<V> findNode(String key) {
+        Node<V> p = root;
+        int i = 0;
+        while (i < key.length()) {
+            p = p.child(key.charAt(i));
+            if (p == null || !key.startsWith(p.label, i))
+                return null;
+            i += p.label.length();
+        }
+        return p;
+    }
+
+    @Override
+    public V search(String key) {
+        Node<V> p = findNode(key);
+        return (p != null && p.hasValue) ? p.value : null;
+    }
+
+    @Override
+    public V insert(String key, V value) {
+        Node<V> p = root;
+        int i = 0;
+        while (i < key.length()) {
+            int c = p.indexOf(key.charAt(i));
+            if (c < 0) {
+                // neues Blatt mit dem ganzen Rest des Schlüssels
+                Node<V> leaf = new Node<>(key.substring(i));
+                leaf.value = value;
+                leaf.hasValue = true;
+                p.addChild(leaf);
+                size++;
+                return null;
+            }
+            Node<V> q = p.children[c];
+            int common = commonPrefix(q.label, key, i);
+            if (common < q.label.length()) {
+                // Kante teilen: neuer Zwischenknoten für den gemeinsamen Teil
+                Node<V> mid = new Node<>(q.label.substring(0, common));
+                q.label = q.label.substring(common);
+                mid.addChild(q);
+                p.children[c] = mid;
+                q = mid;
+            }
+            p = q;
+            i += common;
+        }
+        V old = p.value;
+        p.value = value;
+        if (p.hasValue)
+            return old;
+        p.hasValue = true;
+        size++;
+        return null;
+    }
+
+    @Override
+    public V remove(String key) {
+        Node<V> parent = null;
+        Node<V> grandParent = null;
+        Node<V> p = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node<V> q = p.child(key.charAt(i));
+            if (q == null || !key.startsWith(q.label, i))
+                return null;
+            grandParent = parent;
+            parent = p;
+            p = q;
+            i += q.label.length();
+        }
+        if (!p.hasValue)
+            return null;
+        V old = p.value;
+        p.value = null;
+        p.hasValue = false;
+        size--;
+        // Baum wieder komprimieren
+        if (parent != null) {
+            if (p.childCount == 0) {
+                parent.removeChild(parent.indexOf(p.label.charAt(0)));
+                if (grandParent != null)
+                    mergeWithChild(grandParent, parent);
+            } else {
+                mergeWithChild(parent, p);
+            }
+        }
+        return old;
+    }
+
+    // ersetzt p (Kind von parent) durch sein einziges Kind, falls p keinen Eintrag hat
+    private void mergeWithChild(Node<V> parent, Node<V> p) {
+        if (p.hasValue || p.childCount != 1)
+            return;
+        Node<V> child = p.children[0];
+        child.label = p.label + child.label;
+        parent.children[parent.indexOf(p.label.charAt(0))] = child;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+        return new RadixTreeIterator(root, "");
+    }
+
+    /**
+     * Returns an iterator over all entries whose key starts with prefix, in ascending key order.
+     * @param prefix the prefix.
+     * @return an Iterator over the matching entries.
+     */
+    public Iterator<Entry<String, V>> prefix(String prefix) {
+        Node<V> p = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            p = p.child(prefix.charAt(i));
+            if (p == null)
+                return Collections.emptyIterator();
+            int rest = prefix.length() - i;
+            if (rest <= p.label.length()) {
+                // Präfix endet innerhalb (oder am Ende) dieser Kante
+                if (!p.label.startsWith(prefix.substring(i)))
+                    return Collections.emptyIterator();
+                return new RadixTreeIterator(p, prefix.substring(0, i) + p.label);
+            }
+            if (!prefix.startsWith(p.label, i))
+                return Collections.emptyIterator();
+            i += p.label.length();
+        }
+        return new RadixTreeIterator(p, prefix);
+    }
+
+    /**
+     * Returns up to limit keys starting with prefix, in ascending key order.
+     * @param prefix the prefix typed so far.
+     * @param limit maximum number of suggestions.
+     * @return the completions (including prefix itself, if it is a key).
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        Iterator<Entry<String, V>> it = prefix(prefix);
+        while (result.size() < limit && it.hasNext())
+            result.add(it.next().getKey());
+        return result;
+    }
+
+    // Tiefensuche mit explizitem Stack: erst der Eintrag des Knotens, dann die Kinder
+    // in Zeichenreihenfolge; das ergibt die lexikographische Ordnung
+    private class RadixTreeIterator implements Iterator<Entry<String, V>> {
+        private final Deque<Node<V>> nodes = new ArrayDeque<>();
+        private final Deque<String> keys = new ArrayDeque<>(); // Schlüssel bis einschließlich Knoten
+        private Entry<String, V> next;
+
+        private RadixTreeIterator(Node<V> start, String key) {
+            nodes.push(start);
+            keys.push(key);
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && !nodes.isEmpty()) {
+                Node<V> p = nodes.pop();
+                String key = keys.pop();
+                for (int i = p.childCount - 1; i >= 0; i--) {
+                    nodes.push(p.children[i]);
+                    keys.push(key + p.children[i].label);
+                }
+                if (p.hasValue)
+                    next = new Entry<>(key, p.value);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (next == null)
+                throw new NoSuchElementException();
+            Entry<String, V> e = next;
+            advance();
+            return e;
+        }
+    }
+}
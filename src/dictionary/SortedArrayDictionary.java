@@ -1,22 +1,28 @@
 package dictionary;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
-public class SortedArrayDictionary<K, V> implements Dictionary<K, V> {
+public class SortedArrayDictionary<K, V> implements SortedDictionary<K, V> {
 
     private final Comparator<? super K> cmp;
     private static final int DEF_CAPACITY = 16;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13; // ab hier parallel sortieren
     private int size;
     private Entry<K,V>[] data;
+    private int modCount; // strukturelle Änderungen, für fail-fast Iteratoren
 
     // Constructor mit Comparator-Parameter
     @SuppressWarnings("unchecked")
     public SortedArrayDictionary(Comparator<? super K> c){
         size = 0;
-        data = new Entry[DEF_CAPACITY];
+        data = newArray(DEF_CAPACITY);
         if(c == null)
             cmp = (x,y) -> ((Comparable<? super K>) x).compareTo(y);
         else
@@ -27,7 +33,7 @@ public class SortedArrayDictionary<K, V> implements Dictionary<K, V> {
     @SuppressWarnings("unchecked")
     public SortedArrayDictionary() {
         size = 0;
-        data = new Entry[DEF_CAPACITY];
+        data = newArray(DEF_CAPACITY);
         // Natural Order als Default-Wert:
         cmp = (x,y) -> ((Comparable<? super K>) x).compareTo(y);
     }
@@ -58,10 +64,76 @@ public class SortedArrayDictionary<K, V> implements Dictionary<K, V> {
         }
         data[j+1] = new Entry<K,V>(key,value);
         size++;
+        modCount++;
         return null;
 
     }
 
+    /**
+     * Inserts all given entries at once.
+     * The batch is sorted once (in parallel for large batches) and merged with the
+     * current contents in O((n + m) log m) instead of shifting elements per insert.
+     * If a key occurs more than once, the last occurrence in the batch wins;
+     * batch values also replace values already stored in the dictionary.
+     * @param entries the entries to be inserted.
+     */
+    public void bulkLoad(Collection<? extends Entry<? extends K, ? extends V>> entries) {
+        Entry<K,V>[] batch = newArray(Math.max(DEF_CAPACITY, entries.size()));
+        int n = 0;
+        for (var e : entries)
+            batch[n++] = new Entry<K,V>(e.getKey(), e.getValue());
+
+        // stabil sortieren, damit gleiche Schlüssel in Eingabereihenfolge bleiben
+        Comparator<Entry<K,V>> byKey = (x,y) -> cmp.compare(x.getKey(), y.getKey());
+        if (n >= PARALLEL_SORT_THRESHOLD)
+            Arrays.parallelSort(batch, 0, n, byKey);
+        else
+            Arrays.sort(batch, 0, n, byKey);
+
+        // Duplikate entfernen: der letzte Eintrag einer Gruppe gewinnt
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m > 0 && cmp.compare(batch[m-1].getKey(), batch[i].getKey()) == 0)
+                batch[m-1] = batch[i];
+            else
+                batch[m++] = batch[i];
+        }
+        Arrays.fill(batch, m, n, null);
+        modCount++;
+
+        if (size == 0) {
+            data = batch;
+            size = m;
+            return;
+        }
+
+        // mit den vorhandenen Einträgen mischen
+        Entry<K,V>[] merged = newArray(size + m);
+        int i = 0, j = 0, k = 0;
+        while (i < size && j < m) {
+            int c = cmp.compare(data[i].getKey(), batch[j].getKey());
+            if (c < 0) {
+                merged[k++] = data[i++];
+            } else if (c > 0) {
+                merged[k++] = batch[j++];
+            } else {
+                data[i].setValue(batch[j++].getValue());
+                merged[k++] = data[i++];
+            }
+        }
+        while (i < size)
+            merged[k++] = data[i++];
+        while (j < m)
+            merged[k++] = batch[j++];
+        data = merged;
+        size = k;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K,V> Entry<K,V>[] newArray(int n) {
+        return (Entry<K,V>[]) new Entry<?,?>[n];
+    }
+
     private int searchKey(K key){
         int li = 0;
         int re = size -1;
@@ -80,6 +152,128 @@ public class SortedArrayDictionary<K, V> implements Dictionary<K, V> {
         return -1; // key nicht gefunden
     }
 
+    // Index des ersten Eintrags mit Schlüssel >= key (size, falls es keinen gibt)
+    private int lowerBound(K key){
+        int li = 0;
+        int re = size;
+        while(li < re) {
+            int m = (li + re) >>> 1;
+            if (cmp.compare(data[m].getKey(), key) < 0)
+                li = m + 1;
+            else
+                re = m;
+        }
+        return li;
+    }
+
+    // wie lowerBound, aber erst ab from: galoppierend (Schrittweite verdoppeln), dann binär;
+    // bei aufsteigenden Suchschlüsseln O(log d) für den Abstand d zum vorigen Treffer
+    private int lowerBound(K key, int from){
+        int re = from;
+        int step = 1;
+        while (re < size && cmp.compare(data[re].getKey(), key) < 0) {
+            from = re + 1;
+            re += step;
+            step <<= 1;
+        }
+        re = Math.min(re, size);
+        while (from < re) {
+            int m = (from + re) >>> 1;
+            if (cmp.compare(data[m].getKey(), key) < 0)
+                from = m + 1;
+            else
+                re = m;
+        }
+        return from;
+    }
+
+    /**
+     * Inserts all entries via {@link #bulkLoad(Collection)}.
+     * @param entries the entries to be inserted.
+     */
+    @Override
+    public void insertAll(Collection<? extends Entry<? extends K, ? extends V>> entries) {
+        bulkLoad(entries);
+    }
+
+    /**
+     * Sorts the keys and then walks through the array once in ascending order.
+     * Small batches (less than 1/8 of the size) are searched one by one,
+     * because sorting them costs more than the walk saves.
+     * @param keys the keys to be searched.
+     * @param results array receiving the values; must be at least as long as keys.
+     */
+    @Override
+    public void searchAll(K[] keys, V[] results) {
+        if (results.length < keys.length)
+            throw new IllegalArgumentException("results is shorter than keys");
+        if ((long) keys.length * 8 < size) {
+            for (int i = 0; i < keys.length; i++)
+                results[i] = search(keys[i]);
+            return;
+        }
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            order[i] = i;
+        sortIndices(order, new int[keys.length], 0, keys.length, keys);
+        int pos = 0;
+        for (int k : order) {
+            pos = lowerBound(keys[k], pos);
+            if (pos < size && cmp.compare(data[pos].getKey(), keys[k]) == 0)
+                results[k] = data[pos].getValue();
+            else
+                results[k] = null;
+        }
+    }
+
+    // Mergesort auf den Positionen order[from..to) nach keys, ohne Integer zu boxen
+    private void sortIndices(int[] order, int[] tmp, int from, int to, K[] keys) {
+        if (to - from < 2)
+            return;
+        int mid = (from + to) >>> 1;
+        sortIndices(order, tmp, from, mid, keys);
+        sortIndices(order, tmp, mid, to, keys);
+        if (cmp.compare(keys[order[mid-1]], keys[order[mid]]) <= 0)
+            return; // schon sortiert
+        System.arraycopy(order, from, tmp, from, to - from);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to)
+            order[k++] = (cmp.compare(keys[tmp[j]], keys[tmp[i]]) < 0) ? tmp[j++] : tmp[i++];
+        while (i < mid)
+            order[k++] = tmp[i++];
+        while (j < to)
+            order[k++] = tmp[j++];
+    }
+
+    /**
+     * Marks all entries to be removed and closes the gaps in a single pass.
+     * @param keys the keys to be removed.
+     * @return the number of entries removed.
+     */
+    @Override
+    public int removeAll(Collection<? extends K> keys) {
+        boolean[] removed = new boolean[size];
+        int n = 0;
+        for (K key : keys) {
+            int i = searchKey(key);
+            if (i >= 0 && !removed[i]) {
+                removed[i] = true;
+                n++;
+            }
+        }
+        if (n == 0)
+            return 0;
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed[i])
+                data[k++] = data[i];
+        }
+        Arrays.fill(data, k, size, null);
+        size = k;
+        modCount++;
+        return n;
+    }
+
     @Override
     public V search(K key) {
         int i = searchKey(key);
@@ -95,38 +289,160 @@ public class SortedArrayDictionary<K, V> implements Dictionary<K, V> {
         int i = searchKey(key);
         if (i == -1)
             return null;
-        // Datensatz loeschen und Lücke schliessen
         V r = data[i].getValue();
-        for (int j = i; j < size-1; j++)
-            data[j] = data[j+1];
-        data[--size] = null;
+        removeAt(i);
         return r;
     }
 
+    // Datensatz loeschen und Lücke schliessen
+    private void removeAt(int i) {
+        System.arraycopy(data, i+1, data, i, size-1-i);
+        data[--size] = null;
+        modCount++;
+    }
+
     @Override
     public int size() {
         return this.size;
     }
 
+    @Override
+    public Entry<K, V> first() {
+        return (size > 0) ? data[0] : null;
+    }
+
+    @Override
+    public Entry<K, V> last() {
+        return (size > 0) ? data[size-1] : null;
+    }
+
+    @Override
+    public Entry<K, V> floor(K key) {
+        int i = lowerBound(key);
+        if (i < size && cmp.compare(data[i].getKey(), key) == 0)
+            return data[i];
+        return (i > 0) ? data[i-1] : null;
+    }
+
+    @Override
+    public Entry<K, V> ceiling(K key) {
+        int i = lowerBound(key);
+        return (i < size) ? data[i] : null;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> range(K from, K to) {
+        int lo = (from == null) ? 0 : lowerBound(from);
+        int hi = (to == null) ? size : lowerBound(to);
+        return new SortedArrayIterator(lo, Math.max(lo, hi));
+    }
+
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new SortedArrayIterator();
+        return new SortedArrayIterator(0, size);
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new SortedArraySpliterator(0, size, modCount);
     }
 
+    // teilt das Array halbierend; Einträge in Schlüsselreihenfolge; fail-fast wie ArrayList
+    private class SortedArraySpliterator implements Spliterator<Entry<K, V>> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        private SortedArraySpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            return new SortedArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (index >= fence)
+                return false;
+            action.accept(data[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+            Entry<K, V>[] a = data;
+            for (; index < fence; index++)
+                action.accept(a[index]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED
+                    | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Entry<K, V>> getComparator() {
+            return (x, y) -> cmp.compare(x.getKey(), y.getKey());
+        }
+    }
+
+    // iteriert über data[from..to-1]; fail-fast bei Änderungen außerhalb des Iterators
     private class SortedArrayIterator implements Iterator<Entry<K, V>> {
-        private int position = -1;
+        private int position;
+        private int end;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        private SortedArrayIterator(int from, int to) {
+            position = from - 1;
+            end = to;
+        }
 
         @Override
         public boolean hasNext() {
-            return ((position+1) < data.length && data[position+1] != null );
+            return position+1 < end;
         }
 
         @Override
         public Entry<K, V> next() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
             if(!hasNext())
                 throw new NoSuchElementException();
             position++;
+            canRemove = true;
             return data[position];
         }
+
+        @Override
+        public void remove() {
+            if(!canRemove)
+                throw new IllegalStateException();
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            removeAt(position--);
+            end--;
+            canRemove = false;
+            expectedModCount = modCount;
+        }
     }
 }
@@ -0,0 +1,65 @@
+package dictionary;
+
+import java.util.Iterator;
+
+/**
+ * Dictionary whose entries are ordered by key.
+ * The iterator returns the entries in ascending key order.
+ * <p>
+ * All navigation methods return null if there is no matching entry.
+ * @param <K> the type of keys maintained by this map.
+ * @param <V> the type of mapped values.
+ */
+public interface SortedDictionary<K,V> extends Dictionary<K,V> {
+	/**
+	 * Returns the entry with the smallest key.
+	 * @return the entry with the smallest key, or null if this dictionary is empty.
+	 */
+	Entry<K,V> first();
+
+	/**
+	 * Returns the entry with the largest key.
+	 * @return the entry with the largest key, or null if this dictionary is empty.
+	 */
+	Entry<K,V> last();
+
+	/**
+	 * Returns the entry with the largest key less than or equal to the given key.
+	 * @param key the key.
+	 * @return the entry with the largest key &lt;= key, or null if there is no such key.
+	 */
+	Entry<K,V> floor(K key);
+
+	/**
+	 * Returns the entry with the smallest key greater than or equal to the given key.
+	 * @param key the key.
+	 * @return the entry with the smallest key &gt;= key, or null if there is no such key.
+	 */
+	Entry<K,V> ceiling(K key);
+
+	/**
+	 * Returns an iterator over the entries with from &lt;= key &lt; to in ascending key order.
+	 * @param from lower bound (inclusive), or null for no lower bound.
+	 * @param to upper bound (exclusive), or null for no upper bound.
+	 * @return an Iterator over the entries in the given key range.
+	 */
+	Iterator<Entry<K,V>> range(K from, K to);
+
+	/**
+	 * Returns an iterator over all entries whose key starts with prefix.
+	 * Requires the natural ordering of String keys.
+	 * @param dict the dictionary to be searched.
+	 * @param prefix the prefix.
+	 * @param <V> the type of mapped values.
+	 * @return an Iterator over the matching entries in ascending key order.
+	 */
+	static <V> Iterator<Entry<String,V>> prefix(SortedDictionary<String,V> dict, String prefix) {
+		// kleinster String > alle Strings mit diesem Präfix:
+		// letztes Zeichen < Character.MAX_VALUE um eins erhöhen, dahinterliegende abschneiden
+		int i = prefix.length() - 1;
+		while (i >= 0 && prefix.charAt(i) == Character.MAX_VALUE)
+			i--;
+		String to = (i < 0) ? null : prefix.substring(0, i) + (char) (prefix.charAt(i) + 1);
+		return dict.range(prefix, to);
+	}
+}
@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Scanner;
 
@@ -18,7 +19,11 @@ public class TUI {
         for(;;){
             System.out.print("<slinux>$ ");
             String in = sc.nextLine();
-            command(in);
+            try {
+                command(in);
+            } catch (UnsupportedOperationException e) {
+                System.out.println("Dictionary is read-only");
+            }
         }
     }
 
@@ -49,6 +54,12 @@ public class TUI {
                 else
                     System.out.println("Dictionary doesn't exist");
                 break;
+            case "pre":
+                if (dictionaryExists())
+                    sPrefix(Arrays.copyOfRange(args, 1, args.length));
+                else
+                    System.out.println("Dictionary doesn't exist");
+                break;
             case "i":
                 if (dictionaryExists())
                     sInsert(Arrays.copyOfRange(args, 1, args.length));
@@ -61,6 +72,12 @@ public class TUI {
                 else
                     System.out.println("Dictionary doesn't exist");
                 break;
+            case "write":
+                if (dictionaryExists())
+                    sWrite(Arrays.copyOfRange(args, 1, args.length));
+                else
+                    System.out.println("Dictionary doesn't exist");
+                break;
             case "exit":
                 System.exit(0);
                 break;
@@ -105,6 +122,37 @@ public class TUI {
         System.out.println(dictionary.search(args[0]));
     }
 
+    private static void sPrefix(String[] args)
+    {
+        if (args.length != 1)
+        {
+            System.out.println("wrong command!");
+            return;
+        }
+        if (dictionary instanceof RadixTreeDictionary)
+        {
+            var it = ((RadixTreeDictionary<String>) dictionary).prefix(args[0]);
+            while (it.hasNext())
+            {
+                var element = it.next();
+                System.out.println(element.getKey() + " - " + element.getValue());
+            }
+            return;
+        }
+        if (!(dictionary instanceof SortedDictionary))
+        {
+            System.out.println("Dictionary is not sorted");
+            return;
+        }
+
+        var it = SortedDictionary.prefix((SortedDictionary<String, String>) dictionary, args[0]);
+        while (it.hasNext())
+        {
+            var element = it.next();
+            System.out.println(element.getKey() + " - " + element.getValue());
+        }
+    }
+
     private static void sPrint()
     {
         for (var element : dictionary)
@@ -119,34 +167,37 @@ public class TUI {
             return;
         }
 
-        BufferedReader reader = null;
-        String line;
-
         if (args.length == 1)
         {
-            reader = new BufferedReader(new FileReader(new File(args[0])));
-
-            while ((line = reader.readLine()) != null)
-            {
-                String[] words = line.split(" ");
-                dictionary.insert(words[0], words[1]);
-            }
+            // ganze Datei: paralleler Loader
+            DictionaryLoader.load(Paths.get(args[0]), dictionary);
+            return;
         }
-        else if (args.length == 2)
-        {
-            reader = new BufferedReader(new FileReader(new File(args[1])));
 
-            int counter = 0;
-            while ((line = reader.readLine()) != null && counter < Integer.parseInt(args[0]))
-            {
-                String[] words = line.split(" ");
-                dictionary.insert(words[0], words[1]);
-                counter++;
-            }
+        BufferedReader reader = new BufferedReader(new FileReader(new File(args[1])));
+        String line;
+        int counter = 0;
+        while ((line = reader.readLine()) != null && counter < Integer.parseInt(args[0]))
+        {
+            String[] words = line.split(" ");
+            dictionary.insert(words[0], words[1]);
+            counter++;
         }
         reader.close();
     }
 
+    // speichert das Dictionary im Binärformat von MappedDictionary
+    private static void sWrite(String[] args) throws Exception
+    {
+        if (args.length != 1)
+        {
+            System.out.println("wrong command!");
+            return;
+        }
+
+        MappedDictionary.write(dictionary, Paths.get(args[0]));
+    }
+
     private static void sCreate(String[] args) throws Exception
     {
         if (args.length >= 2)
@@ -157,6 +208,22 @@ public class TUI {
                 dictionary = new HashDictionary<>(3);
                 System.out.println("HashDicitionary sucessfully created!");
                 return;
+            } else if (arg.equals("openhashdictionary")){
+                dictionary = new OpenHashDictionary<>();
+                System.out.println("OpenHashDictionary sucessfully created!");
+                return;
+            } else if (arg.equals("mappeddictionary")){
+                if (args.length != 3){
+                    System.out.println("wrong command!");
+                    return;
+                }
+                dictionary = MappedDictionary.open(Paths.get(args[2]));
+                System.out.println("MappedDictionary sucessfully created!");
+                return;
+            } else if (arg.equals("radixtreedictionary")){
+                dictionary = new RadixTreeDictionary<>();
+                System.out.println("RadixTreeDictionary sucessfully created!");
+                return;
             } else if (arg.equals("binarytreedictionary")){
                 dictionary = new BinaryTreeDictionary<>();
                 System.out.println("BinaryTreeDictionary sucessfully created! \n");